@@ -0,0 +1,84 @@
+package com.ing.brokerage;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.sequencer.CustomerSequencer;
+import com.ing.brokerage.customer.CustomerCreateRequest;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.order.OrderCreateRequest;
+import com.ing.brokerage.order.OrderService;
+import com.ing.brokerage.order.OrderSide;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Application context shared by the benchmarks of a fork. It runs against the in-memory H2 schema built by Liquibase, with the
+ * matching engine and the journal disabled so that only the benchmarked path touches the database.
+ */
+@State(Scope.Benchmark)
+public class BrokerageState {
+
+    /**
+     * TRY deposited to every benchmark customer, enough for any number of benchmark operations of one TRY.
+     */
+    public static final BigDecimal DEPOSIT = BigDecimal.valueOf(10_000_000_000L);
+
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void setUp() {
+
+        context = new SpringApplicationBuilder(BrokerageApplication.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties("spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "application.matching.enabled=false",
+                        "application.journal.enabled=false")
+            .run();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+
+        return context.getBean(type);
+    }
+
+    /**
+     * Creates a customer holding {@link #DEPOSIT} TRY, depositing it on the lane of the customer like the order endpoints do.
+     */
+    public UUID createCustomer() throws Exception {
+
+        CustomerCreateRequest customerRequest = new CustomerCreateRequest();
+        customerRequest.setName("Benchmark");
+        customerRequest.setSurname("Customer");
+        customerRequest.setUsername("benchmark-" + UUID.randomUUID());
+        customerRequest.setPassword("benchmark");
+        UUID customerId = getBean(CustomerService.class).createCustomer(customerRequest).getId();
+
+        CustomerSequencer customerSequencer = getBean(CustomerSequencer.class);
+        OrderService orderService = getBean(OrderService.class);
+        OrderCreateRequest depositRequest = new OrderCreateRequest();
+        depositRequest.setCustomerId(customerId);
+        depositRequest.setAssetName(TRY_ASSET);
+        depositRequest.setOrderSide(OrderSide.BUY);
+        depositRequest.setSize(DEPOSIT);
+        depositRequest.setPrice(FixedPoint.toDecimal(FixedPoint.ONE));
+        Long depositId = customerSequencer.execute(customerId, () -> orderService.createOrder(depositRequest)).getId();
+        customerSequencer.execute(customerId, () -> orderService.matchOrder(depositId));
+        return customerId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ing.brokerage.asset;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link AssetMapper} conversion of an asset row to its response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetMapperBenchmark {
+
+    private final AssetEntity entity = new AssetEntity();
+
+    @Setup
+    public void setUp() {
+
+        entity.setId(1L);
+        entity.setCustomerId(UUID.randomUUID());
+        entity.setAssetName("AAPL");
+        entity.setSize(FixedPoint.of(10_000));
+        entity.setUsableSize(105_000L);
+    }
+
+    @Benchmark
+    public AssetResponse toResponse() {
+
+        return AssetMapper.INSTANCE.toResponse(entity);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ing.brokerage.asset;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.BrokerageState;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.sequencer.CustomerSequencer;
+import com.ing.brokerage.order.OrderSide;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Asset locking and settlement through {@link AssetService} under contention, each call run on the {@link CustomerSequencer}
+ * lane of its customer in a transaction of its own, the way the order operations reach it. The single customer benchmarks make
+ * every thread queue on the lane of the same customer, the many customers benchmarks give each thread a customer of its own.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AssetServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedCustomer {
+
+        CustomerSequencer customerSequencer;
+
+        AssetService assetService;
+
+        UUID customerId;
+
+        @Setup
+        public void setUp(BrokerageState state) throws Exception {
+
+            customerSequencer = state.getBean(CustomerSequencer.class);
+            assetService = state.getBean(AssetService.class);
+            customerId = state.createCustomer();
+            // creates the AAPL row up front, the first settlement of concurrent threads would insert it more than once
+            lockAndMatch(customerSequencer, assetService, customerId);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCustomer {
+
+        CustomerSequencer customerSequencer;
+
+        AssetService assetService;
+
+        UUID customerId;
+
+        @Setup
+        public void setUp(BrokerageState state) throws Exception {
+
+            customerSequencer = state.getBean(CustomerSequencer.class);
+            assetService = state.getBean(AssetService.class);
+            customerId = state.createCustomer();
+        }
+    }
+
+    @Benchmark
+    public AssetResponse lockAndUnlockSingleCustomer(SharedCustomer customer) throws Exception {
+
+        return lockAndUnlock(customer.customerSequencer, customer.assetService, customer.customerId);
+    }
+
+    @Benchmark
+    public AssetResponse lockAndUnlockManyCustomers(ThreadCustomer customer) throws Exception {
+
+        return lockAndUnlock(customer.customerSequencer, customer.assetService, customer.customerId);
+    }
+
+    @Benchmark
+    public AssetResponse lockAndMatchSingleCustomer(SharedCustomer customer) throws Exception {
+
+        return lockAndMatch(customer.customerSequencer, customer.assetService, customer.customerId);
+    }
+
+    @Benchmark
+    public AssetResponse lockAndMatchManyCustomers(ThreadCustomer customer) throws Exception {
+
+        return lockAndMatch(customer.customerSequencer, customer.assetService, customer.customerId);
+    }
+
+    private static AssetResponse lockAndUnlock(CustomerSequencer customerSequencer, AssetService assetService, UUID customerId)
+        throws Exception {
+
+        customerSequencer.execute(customerId, () -> assetService.lockAsset(customerId, TRY_ASSET, FixedPoint.ONE));
+        return customerSequencer.execute(customerId, () -> assetService.unlockAsset(customerId, TRY_ASSET, FixedPoint.ONE));
+    }
+
+    /**
+     * Settles the purchase of one unit at one TRY, the same way as a matched buy order.
+     */
+    private static AssetResponse lockAndMatch(CustomerSequencer customerSequencer, AssetService assetService, UUID customerId)
+        throws Exception {
+
+        customerSequencer.execute(customerId, () -> assetService.lockAsset(customerId, TRY_ASSET, FixedPoint.ONE));
+        return customerSequencer.execute(customerId, () -> assetService.matchTradingAsset(customerId, "AAPL", FixedPoint.ONE,
+                                                                                          FixedPoint.ONE, OrderSide.BUY));
+    }
+}
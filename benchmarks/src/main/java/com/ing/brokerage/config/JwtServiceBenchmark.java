@@ -0,0 +1,69 @@
+package com.ing.brokerage.config;
+
+import com.ing.brokerage.customer.Role;
+import com.ing.brokerage.customer.UserResponse;
+import io.jsonwebtoken.Claims;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Token generation and verification of {@link JwtService}, without an application context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtService jwtService = new JwtService();
+
+    private final UserResponse user = new UserResponse();
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        jwtService.afterPropertiesSet();
+
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark");
+        user.setRole(Role.CUSTOMER);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyClaims() {
+
+        return jwtService.verifyClaims(token);
+    }
+
+    @Benchmark
+    public UserResponse verifyAndExtractUser() {
+
+        return jwtService.extractUser(jwtService.verifyClaims(token));
+    }
+}
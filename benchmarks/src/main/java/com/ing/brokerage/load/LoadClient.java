@@ -0,0 +1,119 @@
+package com.ing.brokerage.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JSON over HTTP client of the brokerage API used by the virtual users. Every call returns the HTTP status, a non-2xx status is
+ * not an exception so that it can be counted as an error of the operation.
+ */
+class LoadClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .version(HttpClient.Version.HTTP_1_1)
+                                                    .connectTimeout(TIMEOUT)
+                                                    .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+
+    LoadClient(String baseUrl) {
+
+        this.baseUrl = baseUrl;
+    }
+
+    Response login(String username, String password) throws IOException, InterruptedException {
+
+        return send("POST", "/v1/auth/login", Map.of("username", username, "password", password), null);
+    }
+
+    Response createCustomer(String username, String password, String adminToken) throws IOException, InterruptedException {
+
+        return send("POST", "/v1/customers",
+                    Map.of("name", "Load", "surname", "Customer", "username", username, "password", password), adminToken);
+    }
+
+    Response createOrder(UUID customerId, String assetName, String size, String price, String token)
+        throws IOException, InterruptedException {
+
+        return send("POST", "/v1/orders",
+                    Map.of("customerId", customerId, "assetName", assetName, "orderSide", "BUY", "size", size, "price", price),
+                    token);
+    }
+
+    Response matchOrder(long orderId, String adminToken) throws IOException, InterruptedException {
+
+        return send("PATCH", "/v1/orders/" + orderId, null, adminToken);
+    }
+
+    Response cancelOrder(long orderId, String adminToken) throws IOException, InterruptedException {
+
+        return send("DELETE", "/v1/orders/" + orderId, null, adminToken);
+    }
+
+    Response listAssets(UUID customerId, String token) throws IOException, InterruptedException {
+
+        return send("GET", "/v1/assets?customerId=" + customerId, null, token);
+    }
+
+    private Response send(String method, String path, Object body, String token) throws IOException, InterruptedException {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                                 .timeout(TIMEOUT)
+                                                 .header("Content-Type", "application/json")
+                                                 .method(method, body == null
+                                                     ? HttpRequest.BodyPublishers.noBody()
+                                                     : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    class Response {
+
+        private final int status;
+
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean isSuccessful() {
+
+            return status >= 200 && status < 300;
+        }
+
+        int getStatus() {
+
+            return status;
+        }
+
+        /**
+         * Reads a field of the JSON body of a successful response.
+         */
+        JsonNode get(String field) throws IOException {
+
+            if (!isSuccessful()) {
+                throw new IllegalStateException("Request failed with status " + status + ": " + new String(body));
+            }
+            return objectMapper.readTree(body).get(field);
+        }
+    }
+}
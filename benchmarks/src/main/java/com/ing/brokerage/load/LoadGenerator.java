@@ -0,0 +1,198 @@
+package com.ing.brokerage.load;
+
+import com.ing.brokerage.BrokerageApplication;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Starts the application on a random port against the in-memory H2 database and drives a weighted mix of REST calls with a
+ * number of virtual users, each of them a customer of its own. Requests are sent at a fixed total rate spread over the virtual
+ * users, and latencies are reported per endpoint as HdrHistogram percentiles of response time and service time.
+ *
+ * <p>Options are passed as command line properties, together with any application property, e.g.
+ * {@code --load.concurrency=32 --load.rate=1000 --load.duration=60s --application.matching.enabled=false}.
+ */
+public class LoadGenerator {
+
+    private static final String CUSTOMER_PASSWORD = "load";
+
+    private static final String DEPOSIT = "1000000000";
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Environment environment;
+
+    private final LoadClient client;
+
+    private final int concurrency;
+
+    private final int rate;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+    private LoadGenerator(Environment environment) {
+
+        this.environment = environment;
+        client = new LoadClient("http://localhost:" + environment.getRequiredProperty("local.server.port")
+                                    + environment.getProperty("server.servlet.context-path", ""));
+        concurrency = environment.getProperty("load.concurrency", Integer.class, 16);
+        rate = environment.getProperty("load.rate", Integer.class, 100);
+        warmup = environment.getProperty("load.warmup", Duration.class, Duration.ofSeconds(10));
+        duration = environment.getProperty("load.duration", Duration.class, Duration.ofSeconds(30));
+        if (concurrency <= 0 || rate <= 0) {
+            throw new IllegalArgumentException("load.concurrency and load.rate must be positive");
+        }
+
+        for (Operation operation : Operation.values()) {
+            int weight = environment.getProperty(operation.getWeightProperty(), Integer.class, operation.getDefaultWeight());
+            if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        // a command line argument, the default properties of the builder do not override application.yaml
+        String[] applicationArgs = new String[args.length + 1];
+        applicationArgs[0] = "--server.port=0";
+        System.arraycopy(args, 0, applicationArgs, 1, args.length);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BrokerageApplication.class)
+            .logStartupInfo(false)
+            .properties("spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+            .run(applicationArgs);
+        try {
+            new LoadGenerator(context.getEnvironment()).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+
+        String adminToken = client.login(environment.getProperty("load.admin-username", "admin"),
+                                         environment.getProperty("load.admin-password", "Admin123!"))
+                                  .get("token").asText();
+
+        List<VirtualUser> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            users.add(createUser(adminToken));
+        }
+
+        long intervalNanos = concurrency * 1_000_000_000L / rate;
+        long firstRequestNanos = System.nanoTime();
+        long measureStartNanos = firstRequestNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            // staggers the users over one interval, so that they do not send their requests in bursts
+            users.get(i).schedule(firstRequestNanos + intervalNanos * i / concurrency, intervalNanos, measureStartNanos, endNanos);
+        }
+
+        System.out.printf("Running %d virtual users at %d requests/s: %s warmup, %s measurement%n",
+                          concurrency, rate, warmup, duration);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            threads.add(Thread.ofPlatform().name("load-user-" + i).start(users.get(i)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            OperationStats merged = new OperationStats();
+            users.forEach(user -> merged.add(user.getStats().get(operation)));
+            stats.put(operation, merged);
+        }
+        report(stats);
+    }
+
+    /**
+     * Creates a customer holding {@link #DEPOSIT} TRY and logs it in as a virtual user.
+     */
+    private VirtualUser createUser(String adminToken) throws IOException, InterruptedException {
+
+        String username = "load-" + UUID.randomUUID();
+        UUID customerId = UUID.fromString(client.createCustomer(username, CUSTOMER_PASSWORD, adminToken).get("id").asText());
+        long depositId = client.createOrder(customerId, "TRY", DEPOSIT, "1", adminToken).get("id").asLong();
+        client.matchOrder(depositId, adminToken).get("id");
+        String token = client.login(username, CUSTOMER_PASSWORD).get("token").asText();
+        return new VirtualUser(client, customerId, username, CUSTOMER_PASSWORD, token, adminToken, weights);
+    }
+
+    private void report(Map<Operation, OperationStats> stats) throws IOException {
+
+        double seconds = duration.toNanos() / 1e9;
+        PrintStream out = System.out;
+        out.printf("%n%-24s %8s %7s %9s | %-49s | %-19s%n", "", "", "", "",
+                   "response time (ms)", "service time (ms)");
+        out.printf("%-24s %8s %7s %9s | %9s %9s %9s %9s %9s | %9s %9s%n",
+                   "Endpoint", "Count", "Errors", "Req/s", "p50", "p90", "p99", "p99.9", "max", "p50", "p99");
+
+        OperationStats total = new OperationStats();
+        for (Operation operation : Operation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            total.add(operationStats);
+            printRow(out, operation.getEndpoint(), operationStats, seconds);
+        }
+        printRow(out, "Total", total, seconds);
+        out.println("\nResponse time counts from when a request was scheduled, service time from when it was sent.");
+
+        String reportDirectory = environment.getProperty("load.report-directory");
+        if (reportDirectory != null) {
+            writeDistributions(Path.of(reportDirectory), stats);
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, OperationStats stats, double seconds) {
+
+        Histogram response = stats.getResponseTime();
+        Histogram service = stats.getServiceTime();
+        out.printf("%-24s %8d %7d %9.1f |", name, stats.getCount(), stats.getErrors(), stats.getCount() / seconds);
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", millis(response.getValueAtPercentile(percentile)));
+        }
+        out.printf(" %9.2f | %9.2f %9.2f%n", millis(response.getMaxValue()), millis(service.getValueAtPercentile(50)),
+                   millis(service.getValueAtPercentile(99)));
+    }
+
+    /**
+     * Writes the response time distribution of every operation in the HdrHistogram percentile format, in milliseconds.
+     */
+    private static void writeDistributions(Path directory, Map<Operation, OperationStats> stats) throws IOException {
+
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().getResponseTime().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ing.brokerage.load;
+
+/**
+ * REST calls driven by the load generator, with their default share of the request mix.
+ */
+enum Operation {
+
+    LOGIN("POST /v1/auth/login", 10),
+    CREATE_ORDER("POST /v1/orders", 40),
+    MATCH_ORDER("PATCH /v1/orders/{id}", 15),
+    CANCEL_ORDER("DELETE /v1/orders/{id}", 15),
+    LIST_ASSETS("GET /v1/assets", 20);
+
+    private final String endpoint;
+
+    private final int defaultWeight;
+
+    Operation(String endpoint, int defaultWeight) {
+
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String getEndpoint() {
+
+        return endpoint;
+    }
+
+    int getDefaultWeight() {
+
+        return defaultWeight;
+    }
+
+    /**
+     * Name of the property overriding the weight of the operation, e.g. {@code load.weight.create-order}.
+     */
+    String getWeightProperty() {
+
+        return "load.weight." + name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,64 @@
+package com.ing.brokerage.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and errors of one operation, recorded by a single virtual user or merged from all of them.
+ *
+ * <p>Response time is measured from the moment the request was scheduled to be sent, service time from the moment it was
+ * actually sent. They differ when the server falls behind the schedule: the time a request waits for the previous one of the
+ * same virtual user is part of its response time, so slow responses are not hidden by the requests they delay (coordinated
+ * omission).
+ */
+class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram responseTime = new Histogram(SIGNIFICANT_DIGITS);
+
+    private final Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+
+    private long errors;
+
+    void record(long intendedStartNanos, long startNanos, long endNanos, boolean successful) {
+
+        responseTime.recordValue((endNanos - intendedStartNanos) / 1_000);
+        serviceTime.recordValue((endNanos - startNanos) / 1_000);
+        if (!successful) {
+            errors++;
+        }
+    }
+
+    void add(OperationStats other) {
+
+        responseTime.add(other.responseTime);
+        serviceTime.add(other.serviceTime);
+        errors += other.errors;
+    }
+
+    /**
+     * Response time histogram in microseconds.
+     */
+    Histogram getResponseTime() {
+
+        return responseTime;
+    }
+
+    /**
+     * Service time histogram in microseconds.
+     */
+    Histogram getServiceTime() {
+
+        return serviceTime;
+    }
+
+    long getCount() {
+
+        return responseTime.getTotalCount();
+    }
+
+    long getErrors() {
+
+        return errors;
+    }
+}
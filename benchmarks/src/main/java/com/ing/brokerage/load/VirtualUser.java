@@ -0,0 +1,156 @@
+package com.ing.brokerage.load;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One customer sending requests back to back on a fixed schedule. A request is scheduled every {@code intervalNanos}; when a
+ * response arrives late, the following requests are sent as soon as possible, and their response time still counts from their
+ * scheduled time.
+ *
+ * <p>Match and cancel act on the pending orders the user created; with no pending order left, an order is created instead.
+ */
+class VirtualUser implements Runnable {
+
+    private static final String ORDER_ASSET = "AAPL";
+
+    private static final String ORDER_SIZE = "1";
+
+    private static final String ORDER_PRICE = "1";
+
+    private final LoadClient client;
+
+    private final UUID customerId;
+
+    private final String username;
+
+    private final String password;
+
+    private final String adminToken;
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private long firstRequestNanos;
+
+    private long intervalNanos;
+
+    private long measureStartNanos;
+
+    private long endNanos;
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    private final Deque<Long> pendingOrderIds = new ArrayDeque<>();
+
+    private String token;
+
+    VirtualUser(LoadClient client, UUID customerId, String username, String password, String token, String adminToken,
+                Map<Operation, Integer> weights) {
+
+        this.client = client;
+        this.customerId = customerId;
+        this.username = username;
+        this.password = password;
+        this.token = token;
+        this.adminToken = adminToken;
+
+        operations = weights.keySet().toArray(Operation[]::new);
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Sets the schedule of the requests, in {@link System#nanoTime()} values. Requests scheduled before
+     * {@code measureStartNanos} are warmup and are not recorded.
+     */
+    void schedule(long firstRequestNanos, long intervalNanos, long measureStartNanos, long endNanos) {
+
+        this.firstRequestNanos = firstRequestNanos;
+        this.intervalNanos = intervalNanos;
+        this.measureStartNanos = measureStartNanos;
+        this.endNanos = endNanos;
+    }
+
+    @Override
+    public void run() {
+
+        for (long intendedStartNanos = firstRequestNanos; intendedStartNanos < endNanos; intendedStartNanos += intervalNanos) {
+            long waitNanos;
+            while ((waitNanos = intendedStartNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Operation operation = nextOperation();
+            long startNanos = System.nanoTime();
+            boolean successful;
+            try {
+                successful = execute(operation);
+            } catch (IOException e) {
+                successful = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long endedNanos = System.nanoTime();
+
+            if (intendedStartNanos >= measureStartNanos) {
+                stats.get(operation).record(intendedStartNanos, startNanos, endedNanos, successful);
+            }
+        }
+    }
+
+    Map<Operation, OperationStats> getStats() {
+
+        return stats;
+    }
+
+    private Operation nextOperation() {
+
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= value) {
+            index++;
+        }
+
+        Operation operation = operations[index];
+        if ((operation == Operation.MATCH_ORDER || operation == Operation.CANCEL_ORDER) && pendingOrderIds.isEmpty()) {
+            return Operation.CREATE_ORDER;
+        }
+        return operation;
+    }
+
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+
+        LoadClient.Response response = switch (operation) {
+            case LOGIN -> client.login(username, password);
+            case CREATE_ORDER -> client.createOrder(customerId, ORDER_ASSET, ORDER_SIZE, ORDER_PRICE, token);
+            case MATCH_ORDER -> client.matchOrder(pendingOrderIds.poll(), adminToken);
+            case CANCEL_ORDER -> client.cancelOrder(pendingOrderIds.poll(), adminToken);
+            case LIST_ASSETS -> client.listAssets(customerId, token);
+        };
+
+        if (response.isSuccessful()) {
+            if (operation == Operation.LOGIN) {
+                token = response.get("token").asText();
+            } else if (operation == Operation.CREATE_ORDER) {
+                pendingOrderIds.add(response.get("id").asLong());
+            }
+        }
+        return response.isSuccessful();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.asset.AssetResponse;
+import com.ing.brokerage.asset.AssetTradeRequest;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OrderMapper} conversions on the order creation, response and settlement paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    private final OrderCreateRequest request = new OrderCreateRequest();
+
+    private final OrderEntity entity = new OrderEntity();
+
+    private final AssetResponse asset = new AssetResponse();
+
+    @Setup
+    public void setUp() {
+
+        request.setCustomerId(UUID.randomUUID());
+        request.setAssetName("AAPL");
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(new BigDecimal("10.5"));
+        request.setPrice(new BigDecimal("150.25"));
+
+        entity.setId(1L);
+        entity.setCustomerId(request.getCustomerId());
+        entity.setAssetName("AAPL");
+        entity.setOrderSide(OrderSide.BUY);
+        entity.setSize(105_000L);
+        entity.setPrice(1_502_500L);
+        entity.setOrderStatus(OrderStatus.PENDING);
+        entity.setCreatedAt(OffsetDateTime.now());
+
+        asset.setSize(FixedPoint.toDecimal(FixedPoint.of(10_000)));
+        asset.setUsableSize(FixedPoint.toDecimal(FixedPoint.of(8_422)));
+    }
+
+    @Benchmark
+    public OrderEntity toEntity() {
+
+        return OrderMapper.INSTANCE.toEntity(request);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+
+        return OrderMapper.INSTANCE.toResponse(entity, asset);
+    }
+
+    @Benchmark
+    public AssetTradeRequest toTradeRequest() {
+
+        return OrderMapper.INSTANCE.toTradeRequest(entity);
+    }
+
+    @Benchmark
+    public OrderEvent toEvent() {
+
+        return OrderMapper.INSTANCE.toEvent(entity, OrderEventType.CREATED);
+    }
+}
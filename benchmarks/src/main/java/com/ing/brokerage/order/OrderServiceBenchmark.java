@@ -0,0 +1,76 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.BrokerageState;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Order lifecycle through {@link OrderSequencer}, the entry point of the order endpoints, so every operation runs on the lane of
+ * its customer in front of {@link OrderService}. One order of one unit at a time, cancel and match are measured together with
+ * the creation of the order they act on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private OrderSequencer orderSequencer;
+
+    private OrderCreateRequest buyRequest;
+
+    private OrderCreateRequest depositRequest;
+
+    @Setup
+    public void setUp(BrokerageState state) throws Exception {
+
+        orderSequencer = state.getBean(OrderSequencer.class);
+        UUID customerId = state.createCustomer();
+        buyRequest = request(customerId, "AAPL");
+        depositRequest = request(customerId, TRY_ASSET);
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() throws Exception {
+
+        return orderSequencer.createOrder(buyRequest, null);
+    }
+
+    @Benchmark
+    public OrderResponse createAndCancelOrder() throws Exception {
+
+        return orderSequencer.cancelOrder(orderSequencer.createOrder(buyRequest, null).getId());
+    }
+
+    @Benchmark
+    public OrderResponse createAndMatchOrder() throws Exception {
+
+        return orderSequencer.matchOrder(orderSequencer.createOrder(depositRequest, null).getId(), null);
+    }
+
+    private static OrderCreateRequest request(UUID customerId, String assetName) {
+
+        OrderCreateRequest request = new OrderCreateRequest();
+        request.setCustomerId(customerId);
+        request.setAssetName(assetName);
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(BigDecimal.ONE);
+        request.setPrice(BigDecimal.ONE);
+        return request;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ing.brokerage.asset;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of an asset row as left by a balance change, read without going through the persistence context.
+ */
+interface AssetBalance {
+
+    Long getId();
+
+    UUID getCustomerId();
+
+    String getAssetName();
+
+    long getSize();
+
+    long getUsableSize();
+}
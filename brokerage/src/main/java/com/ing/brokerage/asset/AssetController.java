@@ -1,5 +1,9 @@
 package com.ing.brokerage.asset;
 
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.exception.BusinessException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -28,4 +32,13 @@ public class AssetController {
         return ResponseEntity.ok(assetService.listAssets(searchRequest, pageable));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, #searchRequest.customerId)")
+    public ResponseEntity<CursorPage<AssetResponse>> scrollAssets(
+        @Valid @ParameterObject AssetSearchRequest searchRequest,
+        @Valid @ParameterObject CursorRequest cursorRequest) throws BusinessException {
+
+        return ResponseEntity.ok(assetService.scrollAssets(searchRequest, cursorRequest));
+    }
+
 }
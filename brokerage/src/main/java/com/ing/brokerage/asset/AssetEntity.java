@@ -1,13 +1,15 @@
 package com.ing.brokerage.asset;
 
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.decimal.FixedPointConverter;
 import com.ing.brokerage.base.entity.AbstractBaseEntity;
 import com.ing.brokerage.constant.Constants;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
@@ -28,9 +30,11 @@ class AssetEntity extends AbstractBaseEntity {
     @Column(name = "asset_name", nullable = false)
     private String assetName;
 
-    @Column(name = "size", nullable = false)
-    private BigDecimal size;
+    @Column(name = "size", nullable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long size;
 
-    @Column(name = "usable_Size", nullable = false)
-    private BigDecimal usableSize;
+    @Column(name = "usable_Size", nullable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long usableSize;
 }
@@ -0,0 +1,16 @@
+package com.ing.brokerage.asset;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published inside the transaction that changed the balance of an asset, with the state of the asset after the change.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AssetEvent {
+
+    private final AssetEventType eventType;
+
+    private final AssetResponse asset;
+}
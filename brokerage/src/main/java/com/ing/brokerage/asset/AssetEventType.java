@@ -0,0 +1,8 @@
+package com.ing.brokerage.asset;
+
+public enum AssetEventType {
+
+    LOCKED,
+    UNLOCKED,
+    SETTLED
+}
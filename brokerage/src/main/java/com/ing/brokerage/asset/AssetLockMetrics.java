@@ -0,0 +1,76 @@
+package com.ing.brokerage.asset;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Times the asset row access of {@link AssetService}. {@code brokerage.asset.lock.wait} is the duration of the statement
+ * reading or updating the rows, which includes waiting for concurrent transactions holding them. {@code brokerage.asset.lock.hold}
+ * runs from the end of that statement until the transaction completes and releases the rows. Both are tagged with the
+ * operation and published as histograms. With mutations sequenced per customer, waits show up in
+ * {@code brokerage.sequencer.wait} rather than here.
+ */
+@Component
+class AssetLockMetrics {
+
+    static final String LOCK = "lock";
+
+    static final String SETTLE = "settle";
+
+    static final String RESERVE = "reserve";
+
+    static final String RELEASE = "release";
+
+    private final Map<String, Timer> waitTimers;
+
+    private final Map<String, Timer> holdTimers;
+
+    AssetLockMetrics(MeterRegistry meterRegistry) {
+
+        waitTimers = timers(meterRegistry, "brokerage.asset.lock.wait", "Time spent acquiring asset row locks");
+        holdTimers = timers(meterRegistry, "brokerage.asset.lock.hold", "Time asset row locks are held until their transaction ends");
+    }
+
+    /**
+     * Runs a statement on asset rows within the current transaction, and times its lock wait and hold.
+     */
+    <T> T lock(String operation, Supplier<T> statement) {
+
+        long startNanos = System.nanoTime();
+        T result = statement.get();
+        long lockedNanos = System.nanoTime();
+        waitTimers.get(operation).record(lockedNanos - startNanos, TimeUnit.NANOSECONDS);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Timer holdTimer = holdTimers.get(operation);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    holdTimer.record(System.nanoTime() - lockedNanos, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static Map<String, Timer> timers(MeterRegistry meterRegistry, String name, String description) {
+
+        return Stream.of(LOCK, SETTLE, RESERVE, RELEASE)
+                     .collect(Collectors.toMap(operation -> operation,
+                                               operation -> Timer.builder(name)
+                                                                 .description(description)
+                                                                 .tag("operation", operation)
+                                                                 .publishPercentileHistogram()
+                                                                 .register(meterRegistry)));
+    }
+}
@@ -1,13 +1,16 @@
 package com.ing.brokerage.asset;
 
+import com.ing.brokerage.base.decimal.FixedPointMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+@Mapper(uses = FixedPointMapper.class)
 public interface AssetMapper {
 
     AssetMapper INSTANCE = Mappers.getMapper(AssetMapper.class);
 
     AssetResponse toResponse(AssetEntity assetEntity);
 
+    AssetResponse toResponse(AssetBalance assetBalance);
+
 }
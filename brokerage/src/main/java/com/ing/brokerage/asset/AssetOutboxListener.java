@@ -0,0 +1,27 @@
+package com.ing.brokerage.asset;
+
+import com.ing.brokerage.base.outbox.Outbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Records every asset balance change in the {@link Outbox} before its transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.outbox", name = "enabled", havingValue = "true")
+class AssetOutboxListener {
+
+    static final String AGGREGATE_TYPE = "ASSET";
+
+    private final Outbox outbox;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAssetEvent(AssetEvent event) {
+
+        outbox.add(AGGREGATE_TYPE, event.getAsset().getId(), event.getEventType().name(), event.getAsset());
+    }
+}
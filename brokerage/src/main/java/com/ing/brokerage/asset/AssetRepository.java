@@ -0,0 +1,89 @@
+package com.ing.brokerage.asset;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface AssetRepository extends JpaRepository<AssetEntity, Long>, JpaSpecificationExecutor<AssetEntity> {
+
+    /**
+     * Reads the row changed by the wrapped UPDATE from its final state, so a balance change and its result take a single
+     * statement. The decimal columns are scaled back to fixed-point values, the customer id is read as text for the projection.
+     */
+    String UPDATED_BALANCE = "SELECT id AS id, CAST(customer_id AS VARCHAR) AS customerId, asset_name AS assetName, "
+                             + "CAST(size * :#{T(com.ing.brokerage.base.decimal.FixedPoint).ONE} AS BIGINT) AS size, "
+                             + "CAST(usable_size * :#{T(com.ing.brokerage.base.decimal.FixedPoint).ONE} AS BIGINT) AS usableSize "
+                             + "FROM FINAL TABLE (";
+
+    String SIZE = ":#{T(com.ing.brokerage.base.decimal.FixedPoint).toDecimal(#size)} ";
+
+    String LOCKED_SIZE = ":#{T(com.ing.brokerage.base.decimal.FixedPoint).toDecimal(#lockedSize)} ";
+
+    @Query("SELECT a FROM asset a WHERE a.customerId = :customerId AND a.assetName = :assetName")
+    Optional<AssetEntity> findByCustomerIdAndAssetName(
+        @Param("customerId") UUID customerId,
+        @Param("assetName") String assetName
+    );
+
+    /**
+     * Moves the given size from the usable part of the asset to its locked part, if enough of it is usable.
+     *
+     * @return the asset after the update, empty if the size is not reserved.
+     */
+    @Query(value = UPDATED_BALANCE + "UPDATE asset SET usable_size = usable_size - " + SIZE
+                   + "WHERE customer_id = :customerId AND asset_name = :assetName AND usable_size >= " + SIZE + ")",
+           nativeQuery = true)
+    Optional<AssetBalance> reserve(@Param("customerId") UUID customerId, @Param("assetName") String assetName,
+                                   @Param("size") long size);
+
+    /**
+     * Moves the given size from the locked part of the asset back to its usable part, if that much of it is locked.
+     *
+     * @return the asset after the update, empty if the size is not released.
+     */
+    @Query(value = UPDATED_BALANCE + "UPDATE asset SET usable_size = usable_size + " + SIZE
+                   + "WHERE customer_id = :customerId AND asset_name = :assetName AND size - usable_size >= " + SIZE + ")",
+           nativeQuery = true)
+    Optional<AssetBalance> release(@Param("customerId") UUID customerId, @Param("assetName") String assetName,
+                                   @Param("size") long size);
+
+    /**
+     * Takes the locked size off the locked part of the asset and pays the given size out of the asset, if that much of it is
+     * locked and the asset holds the size. Paying less than the locked size returns the difference to the usable part.
+     *
+     * @return the asset after the update, empty if the size is not paid.
+     */
+    @Query(value = UPDATED_BALANCE + "UPDATE asset SET size = size - " + SIZE + ", usable_size = usable_size + " + LOCKED_SIZE
+                   + "- " + SIZE + "WHERE customer_id = :customerId AND asset_name = :assetName AND size - usable_size >= "
+                   + LOCKED_SIZE + "AND usable_size + " + LOCKED_SIZE + ">= " + SIZE + ")",
+           nativeQuery = true)
+    Optional<AssetBalance> debitLocked(@Param("customerId") UUID customerId, @Param("assetName") String assetName,
+                                       @Param("lockedSize") long lockedSize, @Param("size") long size);
+
+    /**
+     * Removes the given size from the usable part of the asset, if enough of it is usable.
+     *
+     * @return the asset after the update, empty if the size is not removed.
+     */
+    @Query(value = UPDATED_BALANCE + "UPDATE asset SET size = size - " + SIZE + ", usable_size = usable_size - " + SIZE
+                   + "WHERE customer_id = :customerId AND asset_name = :assetName AND usable_size >= " + SIZE + ")",
+           nativeQuery = true)
+    Optional<AssetBalance> debit(@Param("customerId") UUID customerId, @Param("assetName") String assetName,
+                                 @Param("size") long size);
+
+    /**
+     * Adds the given size to the asset as usable.
+     *
+     * @return the asset after the update, empty if the asset does not exist.
+     */
+    @Query(value = UPDATED_BALANCE + "UPDATE asset SET size = size + " + SIZE + ", usable_size = usable_size + " + SIZE
+                   + "WHERE customer_id = :customerId AND asset_name = :assetName)",
+           nativeQuery = true)
+    Optional<AssetBalance> credit(@Param("customerId") UUID customerId, @Param("assetName") String assetName,
+                                  @Param("size") long size);
+}
@@ -0,0 +1,273 @@
+package com.ing.brokerage.asset;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.pagination.CursorCodec;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.order.OrderSide;
+import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+@Service
+@RequiredArgsConstructor
+@Validated
+public class AssetService {
+
+    private final AssetRepository assetRepository;
+
+    private final AssetLockMetrics assetLockMetrics;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String ID = "id";
+
+    private static final Comparator<AssetMovement> MOVEMENT_ORDER =
+        Comparator.comparing((AssetMovement movement) -> movement.key().customerId())
+                  .thenComparing(movement -> movement.key().assetName());
+
+    private final AssetSpecification assetSpecification = new AssetSpecification();
+
+    public Page<AssetResponse> listAssets(@Valid AssetSearchRequest searchRequest, Pageable pageable) {
+
+        Specification<AssetEntity> spc = generateSearchParametersAsSpecification(searchRequest);
+        return assetRepository.findAll(spc, pageable)
+                              .map(AssetMapper.INSTANCE::toResponse);
+    }
+
+    /**
+     * Lists assets with keyset pagination, seeking on id after the given cursor without counting the matching rows.
+     */
+    public CursorPage<AssetResponse> scrollAssets(@Valid AssetSearchRequest searchRequest, @Valid CursorRequest cursorRequest)
+        throws BusinessException {
+
+        Specification<AssetEntity> spc = generateSearchParametersAsSpecification(searchRequest);
+        ScrollPosition position = ScrollPosition.keyset();
+        if (cursorRequest.getCursor() != null) {
+            Map<String, String> keys = CursorCodec.decode(cursorRequest.getCursor());
+            try {
+                position = ScrollPosition.forward(Map.of(ID, Long.valueOf(keys.get(ID))));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ExceptionConstants.INVALID_CURSOR);
+            }
+        }
+
+        ScrollPosition scrollPosition = position;
+        Window<AssetEntity> window = assetRepository.findBy(spc, query -> query.sortBy(Sort.by(ID))
+                                                                               .limit(cursorRequest.getSize())
+                                                                               .scroll(scrollPosition));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = CursorCodec.encode(Map.of(ID, window.getContent().get(window.size() - 1).getId()));
+        }
+        return new CursorPage<>(window.map(AssetMapper.INSTANCE::toResponse).getContent(), nextCursor, nextCursor != null);
+    }
+
+    private Specification<AssetEntity> generateSearchParametersAsSpecification(AssetSearchRequest searchRequest) {
+
+        Specification<AssetEntity> spc = assetSpecification.customerIdEquals(searchRequest.getCustomerId());
+        if (StringUtils.isNotBlank(searchRequest.getAssetName())) {
+            spc = spc.and(assetSpecification.assetNameEquals(searchRequest.getAssetName()));
+        }
+        return spc;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public AssetResponse lockAsset(UUID customerId, String assetName, long size) throws BusinessException {
+
+        AssetBalance balance =
+            assetLockMetrics.lock(AssetLockMetrics.RESERVE, () -> assetRepository.reserve(customerId, assetName, size))
+                            .orElseThrow(() -> new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET, assetName));
+        return publish(AssetEventType.LOCKED, AssetMapper.INSTANCE.toResponse(balance));
+    }
+
+    /**
+     * Locks the given sizes one after another on a single asset row, each with the guarded reserve UPDATE. A size exceeding the
+     * remaining usable size is rejected and reported as an empty result, the following sizes are still tried.
+     *
+     * @return the asset state after each accepted lock, in the order of the given sizes.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public List<Optional<AssetResponse>> lockAssets(UUID customerId, String assetName, List<Long> sizes) {
+
+        List<Optional<AssetResponse>> locks = new ArrayList<>(sizes.size());
+        AssetResponse lastLock = null;
+        for (long size : sizes) {
+            Optional<AssetResponse> lock =
+                assetLockMetrics.lock(AssetLockMetrics.LOCK, () -> assetRepository.reserve(customerId, assetName, size))
+                                .map(AssetMapper.INSTANCE::toResponse);
+            locks.add(lock);
+            if (lock.isPresent()) {
+                lastLock = lock.get();
+            }
+        }
+        if (lastLock != null) {
+            publish(AssetEventType.LOCKED, lastLock);
+        }
+        return locks;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public AssetResponse unlockAsset(UUID customerId, String assetName, long size) throws BusinessException {
+
+        AssetBalance balance =
+            assetLockMetrics.lock(AssetLockMetrics.RELEASE, () -> assetRepository.release(customerId, assetName, size))
+                            .orElseThrow(() -> new BusinessException(ExceptionConstants.NO_ASSET_TO_UNLOCK));
+        return publish(AssetEventType.UNLOCKED, AssetMapper.INSTANCE.toResponse(balance));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public AssetResponse matchTradingAsset(UUID customerId, String assetName, long price, long size, OrderSide orderSide)
+        throws BusinessException {
+
+        AssetTradeRequest trade = new AssetTradeRequest();
+        trade.setCustomerId(customerId);
+        trade.setAssetName(assetName);
+        trade.setPrice(price);
+        trade.setSize(size);
+        trade.setOrderSide(orderSide);
+        return matchTradingAssets(List.of(trade)).getFirst();
+    }
+
+    /**
+     * Settles the given trades in a single transaction. Each trade moves balances of the rows of its customer, every movement is a
+     * single UPDATE whose WHERE clause carries the balance guard, a zero row count fails the whole settlement. The movements run
+     * in (customer id, asset name) order, so settlements sharing rows lock them in the same order and only the rows they move are
+     * locked. A trade may be a partial fill of an order, only its own size is settled against the locked part of the asset, the
+     * rest stays locked for the later fills. The state of each row is taken from its last movement, no row is read again.
+     *
+     * @return the state of the traded asset of each trade after settlement, in the order of the given trades.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public List<AssetResponse> matchTradingAssets(List<@Valid AssetTradeRequest> trades) throws BusinessException {
+
+        List<AssetMovement> movements = new ArrayList<>();
+        for (AssetTradeRequest trade : trades) {
+            if (OrderSide.BUY.equals(trade.getOrderSide())) {
+                addBuyingMovements(movements, trade);
+            } else {
+                addSellingMovements(movements, trade);
+            }
+        }
+
+        // the sort is stable, movements of the same row keep the order of their trades
+        movements.sort(MOVEMENT_ORDER);
+        Map<AssetKey, AssetResponse> settledAssets = new LinkedHashMap<>();
+        for (AssetMovement movement : movements) {
+            settledAssets.put(movement.key(), move(movement));
+        }
+        settledAssets.values().forEach(asset -> publish(AssetEventType.SETTLED, asset));
+        return trades.stream().map(trade -> settledAssets.get(new AssetKey(trade.getCustomerId(), trade.getAssetName()))).toList();
+    }
+
+    private static void addBuyingMovements(List<AssetMovement> movements, AssetTradeRequest trade) {
+
+        if (TRY_ASSET.equals(trade.getAssetName())) {
+            movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), TRY_ASSET), MovementType.CREDIT, 0, getAmount(trade)));
+            return;
+        }
+
+        movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), TRY_ASSET), MovementType.DEBIT_LOCKED,
+                                        getLockedAmount(trade), getAmount(trade)));
+        movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), trade.getAssetName()), MovementType.CREDIT, 0,
+                                        trade.getSize()));
+    }
+
+    private static void addSellingMovements(List<AssetMovement> movements, AssetTradeRequest trade) {
+
+        // TRY withdrawals do not lock any asset when they are created, they are paid from the usable part
+        if (TRY_ASSET.equals(trade.getAssetName())) {
+            movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), TRY_ASSET), MovementType.DEBIT, 0, getAmount(trade)));
+            return;
+        }
+
+        movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), trade.getAssetName()), MovementType.DEBIT_LOCKED,
+                                        trade.getSize(), trade.getSize()));
+        movements.add(new AssetMovement(new AssetKey(trade.getCustomerId(), TRY_ASSET), MovementType.CREDIT, 0, getAmount(trade)));
+    }
+
+    /**
+     * @return the state of the moved asset row after the movement.
+     */
+    private AssetResponse move(AssetMovement movement) throws BusinessException {
+
+        UUID customerId = movement.key().customerId();
+        String assetName = movement.key().assetName();
+        Optional<AssetBalance> balance = assetLockMetrics.lock(AssetLockMetrics.SETTLE, () -> switch (movement.type()) {
+            case DEBIT_LOCKED -> assetRepository.debitLocked(customerId, assetName, movement.lockedSize(), movement.size());
+            case DEBIT -> assetRepository.debit(customerId, assetName, movement.size());
+            case CREDIT -> assetRepository.credit(customerId, assetName, movement.size());
+        });
+        if (balance.isPresent()) {
+            return AssetMapper.INSTANCE.toResponse(balance.get());
+        }
+        if (movement.type() != MovementType.CREDIT) {
+            throw new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET, assetName);
+        }
+
+        AssetEntity assetEntity = new AssetEntity();
+        assetEntity.setCustomerId(customerId);
+        assetEntity.setAssetName(assetName);
+        assetEntity.setSize(movement.size());
+        assetEntity.setUsableSize(movement.size());
+        return AssetMapper.INSTANCE.toResponse(assetRepository.save(assetEntity));
+    }
+
+    private static long getAmount(AssetTradeRequest trade) {
+
+        return trade.getAmount() != null ? trade.getAmount() : getLockedAmount(trade);
+    }
+
+    /**
+     * @return the part of the amount locked for the order which belongs to the trade, the difference between the amounts of the
+     * order filled up to and after the trade at the price of the order.
+     */
+    private static long getLockedAmount(AssetTradeRequest trade) {
+
+        return FixedPoint.multiply(trade.getPrice(), trade.getFilledSize() + trade.getSize())
+               - FixedPoint.multiply(trade.getPrice(), trade.getFilledSize());
+    }
+
+    private AssetResponse publish(AssetEventType eventType, AssetResponse asset) {
+
+        eventPublisher.publishEvent(new AssetEvent(eventType, asset));
+        return asset;
+    }
+
+    private enum MovementType {
+        DEBIT_LOCKED,
+        DEBIT,
+        CREDIT
+    }
+
+    private record AssetKey(UUID customerId, String assetName) {
+    }
+
+    /**
+     * Balance change of a single asset row. The locked size is only taken by {@link MovementType#DEBIT_LOCKED}.
+     */
+    private record AssetMovement(AssetKey key, MovementType type, long lockedSize, long size) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.ing.brokerage.asset;
+
+import com.ing.brokerage.order.OrderSide;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AssetTradeRequest {
+
+    @NotNull
+    private UUID customerId;
+
+    @NotBlank
+    private String assetName;
+
+    @Positive
+    private long price;
+
+    @PositiveOrZero
+    private long size;
+
+    /**
+     * Size of the order filled by earlier trades. The amount of a trade is the difference between the amounts of the order filled
+     * up to and after the trade, so that the fills of an order add up to the amount locked for it.
+     */
+    @PositiveOrZero
+    private long filledSize;
+
+    /**
+     * TRY amount the trade is executed for, when two orders are matched at the price of the resting one. Without an amount the
+     * trade is executed at the price of the order. A buy order executed below its price gets the difference back from its lock.
+     */
+    @PositiveOrZero
+    private Long amount;
+
+    @NotNull
+    private OrderSide orderSide;
+}
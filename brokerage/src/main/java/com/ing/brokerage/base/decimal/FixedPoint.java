@@ -0,0 +1,86 @@
+package com.ing.brokerage.base.decimal;
+
+import com.ing.brokerage.exception.AmountOutOfRangeException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Arithmetic on prices, sizes and balances kept as {@code long} values scaled by {@value #SCALE} fractional digits, so that
+ * {@code 12.5} is held as {@code 125000}. Every operation is overflow checked and throws {@link AmountOutOfRangeException}
+ * instead of wrapping around.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixedPoint {
+
+    public static final int SCALE = 4;
+
+    /**
+     * Precision of the columns holding fixed-point values, enough for every scaled long.
+     */
+    public static final int PRECISION = 19;
+
+    public static final long ONE = 10_000L;
+
+    private static final BigInteger BIG_ONE = BigInteger.valueOf(ONE);
+
+    public static long of(long units) {
+
+        try {
+            return Math.multiplyExact(units, ONE);
+        } catch (ArithmeticException e) {
+            throw new AmountOutOfRangeException(units + " does not fit into a fixed-point value");
+        }
+    }
+
+    /**
+     * @throws AmountOutOfRangeException if the value has more than {@value #SCALE} fractional digits or does not fit into a long
+     *                                   once scaled.
+     */
+    public static long toScaled(BigDecimal value) {
+
+        try {
+            return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new AmountOutOfRangeException(value + " does not fit into a fixed-point value");
+        }
+    }
+
+    /**
+     * @return the value without trailing fractional zeros, {@code 10} rather than {@code 10.0000}.
+     */
+    public static BigDecimal toDecimal(long value) {
+
+        BigDecimal decimal = BigDecimal.valueOf(value, SCALE).stripTrailingZeros();
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    /**
+     * Multiplies two scaled values, rounding the product half up to {@value #SCALE} fractional digits. Only the rescaled product
+     * has to fit into a long, the raw product of the scaled values may exceed it.
+     *
+     * @throws AmountOutOfRangeException if the rescaled product does not fit into a long.
+     */
+    public static long multiply(long left, long right) {
+
+        long high = Math.multiplyHigh(left, right);
+        long low = left * right;
+        if (high == (low >> 63)) {
+            long quotient = low / ONE;
+            long remainder = Math.abs(low % ONE);
+            return remainder * 2 >= ONE ? quotient + Long.signum(low) : quotient;
+        }
+
+        BigInteger[] division = BigInteger.valueOf(left).multiply(BigInteger.valueOf(right)).divideAndRemainder(BIG_ONE);
+        BigInteger quotient = division[0];
+        if (division[1].abs().shiftLeft(1).compareTo(BIG_ONE) >= 0) {
+            quotient = quotient.add(BigInteger.valueOf(division[1].signum()));
+        }
+        if (quotient.bitLength() > Long.SIZE - 1) {
+            throw new AmountOutOfRangeException(toDecimal(left) + " * " + toDecimal(right) + " does not fit into a fixed-point value");
+        }
+        return quotient.longValue();
+    }
+}
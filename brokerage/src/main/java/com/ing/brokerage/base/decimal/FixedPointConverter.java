@@ -0,0 +1,30 @@
+package com.ing.brokerage.base.decimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * Stores {@link FixedPoint} values in {@code NUMERIC} columns with the same scale.
+ */
+@Converter
+public class FixedPointConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long value) {
+
+        if (value == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(value, FixedPoint.SCALE);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal value) {
+
+        if (value == null) {
+            return null;
+        }
+        return FixedPoint.toScaled(value);
+    }
+}
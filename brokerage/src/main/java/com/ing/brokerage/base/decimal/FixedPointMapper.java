@@ -0,0 +1,23 @@
+package com.ing.brokerage.base.decimal;
+
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Conversions between API decimals and {@link FixedPoint} values for MapStruct mappers. Kept apart from {@link FixedPoint} so
+ * that {@link FixedPoint#of(long)} is never picked up as a {@code long} to {@code long} mapping method.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixedPointMapper {
+
+    public static long toScaled(BigDecimal value) {
+
+        return FixedPoint.toScaled(value);
+    }
+
+    public static BigDecimal toDecimal(long value) {
+
+        return FixedPoint.toDecimal(value);
+    }
+}
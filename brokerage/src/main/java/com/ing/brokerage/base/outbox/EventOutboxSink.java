@@ -0,0 +1,24 @@
+package com.ing.brokerage.base.outbox;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes every relayed event as an {@link OutboxMessage} application event, for consumers running in the same process.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.outbox", name = "sink", havingValue = "event", matchIfMissing = true)
+class EventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
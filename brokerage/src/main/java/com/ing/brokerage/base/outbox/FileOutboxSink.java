@@ -0,0 +1,72 @@
+package com.ing.brokerage.base.outbox;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends relayed events to a local file, one JSON document per line. Each batch is forced to disk before it is acknowledged,
+ * so an event removed from the outbox is never lost; a batch retried after a crash may appear in the file twice and can be
+ * told apart by its id.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.outbox", name = "sink", havingValue = "file")
+class FileOutboxSink implements OutboxSink, DisposableBean {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final FileChannel channel;
+
+    FileOutboxSink(@Value("${application.outbox.file}") Path file) throws IOException {
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 256);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(lines)) {
+            generator.setRootValueSeparator(null);
+            for (OutboxMessage message : messages) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", message.getId());
+                generator.writeStringField("aggregateType", message.getAggregateType());
+                generator.writeStringField("aggregateId", message.getAggregateId());
+                generator.writeStringField("eventType", message.getEventType());
+                generator.writeStringField("createdAt", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(message.getCreatedAt()));
+                generator.writeFieldName("payload");
+                generator.writeRawValue(message.getPayload());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+
+        channel.close();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ing.brokerage.base.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records state changes as rows of the outbox_event table, in the transaction making the change. A change and its event are
+ * committed or rolled back together; the {@link OutboxRelay} publishes the committed events afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private static final String SUPPRESSED = Outbox.class.getName() + ".suppressed";
+
+    private final OutboxRepository outboxRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(String aggregateType, Object aggregateId, String eventType, Object payload) {
+
+        if (TransactionSynchronizationManager.hasResource(SUPPRESSED)) {
+            return;
+        }
+        OutboxEntity outboxEntity = new OutboxEntity();
+        outboxEntity.setAggregateType(aggregateType);
+        outboxEntity.setAggregateId(String.valueOf(aggregateId));
+        outboxEntity.setEventType(eventType);
+        try {
+            outboxEntity.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload of " + aggregateType + " " + aggregateId + " can not be written", e);
+        }
+        outboxEntity.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        outboxRepository.save(outboxEntity);
+    }
+
+    /**
+     * Drops the events added for the rest of the current transaction, for changes whose events were recorded when they were first
+     * made, such as a journal replay.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void suppress() {
+
+        if (TransactionSynchronizationManager.hasResource(SUPPRESSED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(SUPPRESSED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+
+                TransactionSynchronizationManager.unbindResourceIfPossible(SUPPRESSED);
+            }
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.ing.brokerage.base.outbox;
+
+import com.ing.brokerage.base.entity.AbstractBaseEntity;
+import com.ing.brokerage.constant.Constants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.SequenceGenerator;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+@Getter
+@Setter
+@Entity(name = "outbox_event")
+@SequenceGenerator(name = Constants.DEFAULT_SEQUENCE_GENERATOR, sequenceName = "outbox_event_id_seq", allocationSize = 50)
+class OutboxEntity extends AbstractBaseEntity {
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, updatable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @TimeZoneStorage(TimeZoneStorageType.NATIVE)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.ing.brokerage.base.outbox;
+
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An event relayed from the outbox. The payload is the JSON document of the changed aggregate.
+ */
+@Getter
+@Setter
+public class OutboxMessage {
+
+    private Long id;
+
+    private String aggregateType;
+
+    private String aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    private OffsetDateTime createdAt;
+}
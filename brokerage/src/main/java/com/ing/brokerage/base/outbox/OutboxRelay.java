@@ -0,0 +1,108 @@
+package com.ing.brokerage.base.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the outbox on a single relay thread. Every poll reads the oldest events in batches, hands each batch to the
+ * {@link OutboxSink} and deletes it once published, until fewer events than a batch remain. A batch whose publication fails
+ * stays in the outbox and is retried on the next poll, so events are delivered at least once, in id order.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.outbox", name = "enabled", havingValue = "true")
+class OutboxRelay implements DisposableBean {
+
+    private final OutboxRepository outboxRepository;
+
+    private final OutboxSink outboxSink;
+
+    private final int batchSize;
+
+    private final Duration pollInterval;
+
+    private final Counter relayed;
+
+    private final ScheduledExecutorService relay =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-relay").factory());
+
+    OutboxRelay(OutboxRepository outboxRepository, OutboxSink outboxSink, @Value("${application.outbox.batch-size}") int batchSize,
+                @Value("${application.outbox.poll-interval}") Duration pollInterval, MeterRegistry meterRegistry) {
+
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.relayed = Counter.builder("brokerage.outbox.relayed")
+                              .description("Outbox events published to the sink")
+                              .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        relay.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void poll() {
+
+        try {
+            while (relayBatch() == batchSize) {
+                log.debug("Outbox batch relayed, polling again");
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay failed, retrying in {}", pollInterval, e);
+        }
+    }
+
+    /**
+     * Publishes and removes the oldest batch of events.
+     *
+     * @return the number of relayed events.
+     */
+    int relayBatch() throws IOException {
+
+        List<OutboxEntity> batch = outboxRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        outboxSink.publish(batch.stream().map(OutboxRelay::toMessage).toList());
+        outboxRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEntity::getId).toList());
+        relayed.increment(batch.size());
+        return batch.size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        relay.shutdown();
+        relay.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static OutboxMessage toMessage(OutboxEntity outboxEntity) {
+
+        OutboxMessage message = new OutboxMessage();
+        message.setId(outboxEntity.getId());
+        message.setAggregateType(outboxEntity.getAggregateType());
+        message.setAggregateId(outboxEntity.getAggregateId());
+        message.setEventType(outboxEntity.getEventType());
+        message.setPayload(outboxEntity.getPayload());
+        message.setCreatedAt(outboxEntity.getCreatedAt());
+        return message;
+    }
+}
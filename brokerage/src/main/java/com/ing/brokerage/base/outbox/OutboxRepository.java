@@ -0,0 +1,12 @@
+package com.ing.brokerage.base.outbox;
+
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface OutboxRepository extends JpaRepository<OutboxEntity, Long> {
+
+    List<OutboxEntity> findAllByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,13 @@
+package com.ing.brokerage.base.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the relayed outbox events. A batch is removed from the outbox only after it is published without an
+ * exception, so a sink must tolerate receiving a batch again after a failure or a restart.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
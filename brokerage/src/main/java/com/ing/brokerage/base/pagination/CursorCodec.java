@@ -0,0 +1,48 @@
+package com.ing.brokerage.base.pagination;
+
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Encodes the keyset of the last row of a slice into an opaque, URL safe continuation token and back.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorCodec {
+
+    private static final String KEY_SEPARATOR = "=";
+
+    private static final String ENTRY_SEPARATOR = "\n";
+
+    public static String encode(Map<String, ?> keys) {
+
+        String plain = keys.entrySet().stream()
+                           .map(entry -> entry.getKey() + KEY_SEPARATOR + entry.getValue())
+                           .collect(Collectors.joining(ENTRY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Map<String, String> decode(String cursor) throws BusinessException {
+
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (String entry : plain.split(ENTRY_SEPARATOR)) {
+                int separatorIndex = entry.indexOf(KEY_SEPARATOR);
+                if (separatorIndex < 1) {
+                    throw new BusinessException(ExceptionConstants.INVALID_CURSOR);
+                }
+                keys.put(entry.substring(0, separatorIndex), entry.substring(separatorIndex + 1));
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ExceptionConstants.INVALID_CURSOR);
+        }
+    }
+}
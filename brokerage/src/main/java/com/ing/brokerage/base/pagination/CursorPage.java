@@ -0,0 +1,24 @@
+package com.ing.brokerage.base.pagination;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A slice of a keyset paginated listing. There is no total count, the next slice is requested with {@link #nextCursor}, which is
+ * null on the last slice.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+}
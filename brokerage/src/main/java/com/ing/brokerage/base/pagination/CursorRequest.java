@@ -0,0 +1,19 @@
+package com.ing.brokerage.base.pagination;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CursorRequest {
+
+    private String cursor;
+
+    @NotNull
+    @Positive
+    @Max(1000)
+    private Integer size = 20;
+}
@@ -0,0 +1,145 @@
+package com.ing.brokerage.base.sequencer;
+
+import com.ing.brokerage.exception.BaseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes the mutations of each customer on a single writer thread. Customers are mapped to a fixed number of lanes by
+ * hashing their id, and every lane runs its tasks one after another on its own thread, so the tasks of a customer never run
+ * concurrently while customers on different lanes run in parallel.
+ *
+ * <p>A task spanning customers on several lanes runs on the lowest of them, after the others have been occupied in ascending
+ * order; lanes are always acquired in that order, so tasks waiting for each other can not form a cycle. A task started from a
+ * lane thread runs inline, its customers are expected to be among the ones the running task was sequenced for.
+ */
+@Component
+public class CustomerSequencer implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> IN_LANE = ThreadLocal.withInitial(() -> false);
+
+    private final ExecutorService[] lanes;
+
+    private final Timer waitTimer;
+
+    public CustomerSequencer(@Value("${application.sequencer.lanes}") int laneCount, MeterRegistry meterRegistry) {
+
+        lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("customer-lane-" + i).factory());
+        }
+        waitTimer = Timer.builder("brokerage.sequencer.wait")
+                         .description("Time customer tasks wait for their lanes")
+                         .publishPercentileHistogram()
+                         .register(meterRegistry);
+    }
+
+    public <T> T execute(UUID customerId, CustomerTask<T> task) throws BaseException {
+
+        return execute(List.of(customerId), task);
+    }
+
+    /**
+     * Runs the task on the lanes of the given customers and waits for its result.
+     */
+    public <T> T execute(Collection<UUID> customerIds, CustomerTask<T> task) throws BaseException {
+
+        if (IN_LANE.get()) {
+            return task.call();
+        }
+
+        int[] laneIndexes = customerIds.stream().mapToInt(this::lane).distinct().sorted().toArray();
+        long submittedNanos = System.nanoTime();
+        Future<T> result = lanes[laneIndexes[0]].submit(() -> {
+            List<CountDownLatch> releases = new ArrayList<>(laneIndexes.length - 1);
+            IN_LANE.set(true);
+            try {
+                for (int i = 1; i < laneIndexes.length; i++) {
+                    releases.add(occupy(laneIndexes[i]));
+                }
+                waitTimer.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                return task.call();
+            } finally {
+                IN_LANE.set(false);
+                releases.forEach(CountDownLatch::countDown);
+            }
+        });
+        return await(result);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private int lane(UUID customerId) {
+
+        int hash = customerId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * Blocks the given lane until the returned latch is released.
+     */
+    private CountDownLatch occupy(int laneIndex) throws InterruptedException {
+
+        CountDownLatch occupied = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        lanes[laneIndex].execute(() -> {
+            occupied.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        occupied.await();
+        return release;
+    }
+
+    private static <T> T await(Future<T> result) throws BaseException {
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a customer task", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BaseException baseException) {
+                throw baseException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
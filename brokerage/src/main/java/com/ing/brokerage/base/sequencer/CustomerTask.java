@@ -0,0 +1,12 @@
+package com.ing.brokerage.base.sequencer;
+
+import com.ing.brokerage.exception.BaseException;
+
+/**
+ * Work mutating the state of one or more customers, run by the {@link CustomerSequencer}.
+ */
+@FunctionalInterface
+public interface CustomerTask<T> {
+
+    T call() throws BaseException;
+}
@@ -0,0 +1,166 @@
+package com.ing.brokerage.base.timer;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Hierarchical timing wheel of ids due at given times. Time is divided into ticks, and every level of the wheel has
+ * {@value #WHEEL_SIZE} slots, each spanning {@value #WHEEL_SIZE} times the span of a slot of the level below it. An id is kept
+ * in the lowest level whose slots tell its tick apart from the current one, and is moved down a level whenever the wheel turns
+ * past the slot holding it, so adding an id and expiring it both take constant time however many ids are waiting.
+ *
+ * <p>Ids are kept in primitive arrays, about sixteen bytes each, and can not be removed; the owner is expected to ignore ids
+ * which are no longer relevant when they come due. The wheel is not thread safe.
+ */
+public class TimingWheel {
+
+    private static final int WHEEL_BITS = 6;
+
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final int LEVELS = (Long.SIZE + WHEEL_BITS - 1) / WHEEL_BITS;
+
+    private final long tickMillis;
+
+    private final Bucket[][] levels = new Bucket[LEVELS][WHEEL_SIZE];
+
+    private final Bucket overdue = new Bucket();
+
+    private long currentTick;
+
+    private int size;
+
+    public TimingWheel(long tickMillis, long nowMillis) {
+
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Timing wheel tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Adds an id due at the given time. An id which is already due is handed out on the next {@link #advance}.
+     */
+    public void add(long id, long dueMillis) {
+
+        add(id, Math.ceilDiv(dueMillis, tickMillis), true);
+    }
+
+    /**
+     * Turns the wheel up to the given time and hands out every id due by then, each one at most a tick after its due time.
+     */
+    public void advance(long nowMillis, LongConsumer consumer) {
+
+        drain(overdue, consumer);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(level, slot(currentTick, level));
+                }
+            }
+            Bucket bucket = levels[0][slot(currentTick, 0)];
+            if (bucket != null) {
+                drain(bucket, consumer);
+            }
+            // ids due exactly at a slot boundary of an upper level come down as overdue
+            drain(overdue, consumer);
+        }
+    }
+
+    public int size() {
+
+        return size;
+    }
+
+    private void add(long id, long dueTick, boolean counted) {
+
+        if (counted) {
+            size++;
+        }
+        if (dueTick <= currentTick) {
+            overdue.add(id, dueTick);
+            return;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && high(dueTick, level + 1) != high(currentTick, level + 1)) {
+            level++;
+        }
+        int slot = slot(dueTick, level);
+        Bucket bucket = levels[level][slot];
+        if (bucket == null) {
+            bucket = new Bucket();
+            levels[level][slot] = bucket;
+        }
+        bucket.add(id, dueTick);
+    }
+
+    private void cascade(int level, int slot) {
+
+        Bucket bucket = levels[level][slot];
+        if (bucket == null || bucket.size == 0) {
+            return;
+        }
+        levels[level][slot] = null;
+        for (int i = 0; i < bucket.size; i++) {
+            add(bucket.ids[i], bucket.ticks[i], false);
+        }
+    }
+
+    private void drain(Bucket bucket, LongConsumer consumer) {
+
+        int count = bucket.size;
+        for (int i = 0; i < count; i++) {
+            consumer.accept(bucket.ids[i]);
+        }
+        bucket.clear();
+        size -= count;
+    }
+
+    private static int slot(long tick, int level) {
+
+        return (int) (high(tick, level) & WHEEL_MASK);
+    }
+
+    private static long high(long tick, int level) {
+
+        int shift = WHEEL_BITS * level;
+        return shift >= Long.SIZE - 1 ? 0 : tick >> shift;
+    }
+
+    private static final class Bucket {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+
+        private long[] ticks = new long[INITIAL_CAPACITY];
+
+        private int size;
+
+        private void add(long id, long tick) {
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                ticks = Arrays.copyOf(ticks, size * 2);
+            }
+            ids[size] = id;
+            ticks[size] = tick;
+            size++;
+        }
+
+        private void clear() {
+
+            size = 0;
+            if (ids.length > INITIAL_CAPACITY) {
+                ids = new long[INITIAL_CAPACITY];
+                ticks = new long[INITIAL_CAPACITY];
+            }
+        }
+    }
+}
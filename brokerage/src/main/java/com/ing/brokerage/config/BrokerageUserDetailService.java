@@ -9,6 +9,10 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+/**
+ * Loads users with their password hash for password authentication. Requests carrying a token are authorized from the cached
+ * users without password hash, see {@link JwtAuthenticationFilter}.
+ */
 @Service
 @RequiredArgsConstructor
 public class BrokerageUserDetailService implements UserDetailsService {
@@ -18,7 +22,7 @@ public class BrokerageUserDetailService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        Optional<UserResponse> userOpt = customerService.getUserByUsername(username);
+        Optional<UserResponse> userOpt = customerService.getCredentialsByUsername(username);
 
         if (userOpt.isEmpty()) {
             throw new UsernameNotFoundException("User not found");
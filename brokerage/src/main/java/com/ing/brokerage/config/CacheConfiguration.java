@@ -0,0 +1,17 @@
+package com.ing.brokerage.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caches are Caffeine caches configured by {@code spring.cache}, their statistics are published as Micrometer cache metrics.
+ *
+ * <p>The caching interceptor runs outside of the transaction interceptor, so that an eviction takes place after the transaction
+ * of the evicting method commits and a concurrent lookup can not cache the previous state again.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+}
@@ -0,0 +1,87 @@
+package com.ing.brokerage.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Admits at most as many connection users at a time as the pool has connections. On virtual threads the number of request
+ * threads no longer bounds the callers competing for a connection, so callers beyond the pool size wait in arrival order on a
+ * fair {@link Semaphore}, without pinning their carrier threads, and fail after the connection timeout. A permit is returned
+ * when its connection is closed.
+ */
+class ConnectionAdmissionDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final long timeoutMillis;
+
+    ConnectionAdmissionDataSource(DataSource targetDataSource, int maxConnections, long timeoutMillis) {
+
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        acquire();
+        try {
+            return admitted(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        acquire();
+        try {
+            return admitted(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection admission timed out after " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection admitted(Connection connection) {
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                                                   (proxy, method, args) -> {
+                                                       boolean closing = "close".equals(method.getName())
+                                                                         && closed.compareAndSet(false, true);
+                                                       try {
+                                                           return method.invoke(connection, args);
+                                                       } catch (InvocationTargetException e) {
+                                                           throw e.getTargetException();
+                                                       } finally {
+                                                           if (closing) {
+                                                               permits.release();
+                                                           }
+                                                       }
+                                                   });
+    }
+}
@@ -1,10 +1,13 @@
 package com.ing.brokerage.config;
 
+import com.ing.brokerage.exception.AmountOutOfRangeException;
 import com.ing.brokerage.exception.BaseException;
 import com.ing.brokerage.exception.BusinessException;
 import com.ing.brokerage.exception.ErrorResponse;
+import com.ing.brokerage.exception.ExceptionConstants;
 import com.ing.brokerage.exception.NotAuthorizedException;
 import com.ing.brokerage.exception.RecordNotFoundException;
+import com.ing.brokerage.exception.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -25,21 +28,27 @@ public class CustomExceptionHandler {
 
     private final MessageSource customMessageResource;
 
-    public CustomExceptionHandler(@Qualifier("customMessageResource") MessageSource customMessageResource) {
+    private final RejectionMetrics rejectionMetrics;
+
+    public CustomExceptionHandler(@Qualifier("customMessageResource") MessageSource customMessageResource,
+                                  RejectionMetrics rejectionMetrics) {
 
         this.customMessageResource = customMessageResource;
+        this.rejectionMetrics = rejectionMetrics;
     }
 
     @ExceptionHandler({
         BusinessException.class,
         RecordNotFoundException.class,
         NotAuthorizedException.class,
+        TooManyRequestsException.class,
         BaseException.class
     })
     public ResponseEntity<ErrorResponse> handleException(BaseException e, HttpServletRequest req) {
 
         String errorMessage = this.extractBaseExceptionMessage(e, req);
         log.error(errorMessage, e);
+        rejectionMetrics.increment(e.getMessageKey());
         return new ResponseEntity<>(new ErrorResponse(e.getMessageKey(), errorMessage), getHttpStatus(e));
     }
 
@@ -49,6 +58,8 @@ public class CustomExceptionHandler {
             return HttpStatus.NOT_FOUND;
         } else if (e instanceof NotAuthorizedException) {
             return HttpStatus.UNAUTHORIZED;
+        } else if (e instanceof TooManyRequestsException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
         }
         return HttpStatus.BAD_REQUEST;
     }
@@ -63,6 +74,7 @@ public class CustomExceptionHandler {
              .toList(),
             ",");
         log.error(message, e);
+        rejectionMetrics.increment("MA100");
         return new ResponseEntity<>(new ErrorResponse(message, "MA100"), HttpStatus.BAD_REQUEST);
     }
 
@@ -73,9 +85,20 @@ public class CustomExceptionHandler {
             e.getConstraintViolations().stream().map(violation -> violation.getPropertyPath() + " " + violation.getMessage()).toList(),
             ",");
         log.error(message, e);
+        rejectionMetrics.increment("CV100");
         return new ResponseEntity<>(new ErrorResponse(message, "CV100"), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(AmountOutOfRangeException.class)
+    public ResponseEntity<ErrorResponse> handleAmountOutOfRangeException(AmountOutOfRangeException e, HttpServletRequest req) {
+
+        log.error(e.getMessage(), e);
+        rejectionMetrics.increment(ExceptionConstants.AMOUNT_OUT_OF_RANGE);
+        String message = this.customMessageResource.getMessage(ExceptionConstants.AMOUNT_OUT_OF_RANGE, null,
+                                                               ExceptionConstants.AMOUNT_OUT_OF_RANGE, req.getLocale());
+        return new ResponseEntity<>(new ErrorResponse(ExceptionConstants.AMOUNT_OUT_OF_RANGE, message), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(AuthorizationDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAuthorizationDeniedException(AuthorizationDeniedException e, HttpServletRequest req) {
 
@@ -1,15 +1,18 @@
 package com.ing.brokerage.config;
 
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.customer.CustomerTokenVersions;
+import com.ing.brokerage.customer.UserResponse;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,7 +23,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
 
-    private final UserDetailsService userDetailsService;
+    private final CustomerService customerService;
+
+    private final CustomerTokenVersions customerTokenVersions;
+
+    /**
+     * Builds the principal from the verified claims instead of loading the customer on every request.
+     */
+    @Value("${application.jwt.stateless}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,12 +47,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        Claims claims = jwtService.verifyClaims(jwt);
+        userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            UserResponse userDetails = stateless ? jwtService.extractUser(claims)
+                                                 : customerService.getUserByUsername(userEmail).orElse(null);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null && userEmail.equals(userDetails.getUsername())
+                && customerTokenVersions.isCurrent(userDetails.getId(), jwtService.extractTokenVersion(claims))) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null,
                                                                                                         userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,108 @@
+package com.ing.brokerage.config;
+
+import com.ing.brokerage.customer.Role;
+import com.ing.brokerage.customer.UserResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JwtService implements InitializingBean {
+
+    private static final String ID_CLAIM = "id";
+
+    private static final String ROLE_CLAIM = "role";
+
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    @Value("${application.jwt.secret}")
+    private String secretKey;
+
+    @Value("${application.jwt.expiration}")
+    private long jwtExpiration;
+
+    private Key signInKey;
+
+    private JwtParser jwtParser;
+
+    @Override
+    public void afterPropertiesSet() {
+
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+    }
+
+    /**
+     * Verifies the signature and the expiration of the token in a single parse.
+     *
+     * @return the claims of the token.
+     * @throws JwtException if the token is malformed, not signed with the application key or expired.
+     */
+    public Claims verifyClaims(String token) {
+
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Builds the principal of a verified token from its claims only, without loading the customer.
+     */
+    public UserResponse extractUser(Claims claims) {
+
+        UserResponse user = new UserResponse();
+        user.setId(UUID.fromString(claims.get(ID_CLAIM, String.class)));
+        user.setUsername(claims.getSubject());
+        user.setRole(Role.valueOf(claims.get(ROLE_CLAIM, String.class)));
+        user.setTokenVersion(extractTokenVersion(claims));
+        return user;
+    }
+
+    /**
+     * @return the token version the token was issued with, tokens issued without one have the initial version.
+     */
+    public int extractTokenVersion(Claims claims) {
+
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return tokenVersion == null ? 0 : tokenVersion;
+    }
+
+    public String generateToken(UserResponse user) {
+
+        return generateToken(new HashMap<>(), user);
+    }
+
+    public String generateToken(Map<String, Object> extraClaims, UserResponse user) {
+
+        return buildToken(extraClaims, user, jwtExpiration);
+    }
+
+    private String buildToken(
+        Map<String, Object> extraClaims,
+        UserResponse user,
+        long expiration
+    ) {
+
+        return Jwts
+            .builder()
+            .setClaims(extraClaims)
+            .setSubject(user.getUsername())
+            .claim(ID_CLAIM, user.getId())
+            .claim(ROLE_CLAIM, user.getRole())
+            .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+            .setIssuedAt(new Date(System.currentTimeMillis()))
+            .setExpiration(new Date(System.currentTimeMillis() + expiration))
+            .signWith(signInKey, SignatureAlgorithm.HS256)
+            .compact();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ing.brokerage.config;
+
+import com.ing.brokerage.exception.ExceptionConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts rejected requests by error code, as {@code brokerage.rejections} tagged with the code and the name of its
+ * {@link ExceptionConstants} constant. Counters of every known code are registered up front, so that they are published before
+ * their first rejection.
+ */
+@Component
+public class RejectionMetrics {
+
+    private static final String REJECTIONS = "brokerage.rejections";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> reasons = new HashMap<>();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RejectionMetrics(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+        for (Field field : ExceptionConstants.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    reasons.put((String) field.get(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        reasons.keySet().forEach(this::counter);
+    }
+
+    public void increment(String code) {
+
+        counter(code).increment();
+    }
+
+    private Counter counter(String code) {
+
+        return counters.computeIfAbsent(code, key -> Counter.builder(REJECTIONS)
+                                                            .description("Requests rejected with an error code")
+                                                            .tag("code", key)
+                                                            .tag("reason", reasons.getOrDefault(key, key))
+                                                            .register(meterRegistry));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ing.brokerage.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -32,13 +33,18 @@ public class SecurityConfig {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
+                // the request was authorized before it started streaming, its async completion carries no token
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(
                     "/v3/api-docs/**",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/v1/auth/login",
-                    "/v1/customers/**"
+                    "/v1/customers/**",
+                    "/actuator/health"
                 ).permitAll()
+                // metrics reveal customer and order activity, they are scraped with an admin token
+                .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -4,6 +4,8 @@ import static com.ing.brokerage.customer.Role.ADMIN;
 import static com.ing.brokerage.customer.Role.CUSTOMER;
 
 import com.ing.brokerage.customer.UserResponse;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.UUID;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -22,4 +24,12 @@ public class UserSecurity {
         return ADMIN.equals(user.getRole()) || (CUSTOMER.equals(user.getRole()) && user.getId().equals(customerId));
     }
 
+    public boolean isSelfOrAdminForAll(Authentication authentication, Collection<UUID> customerIds) {
+
+        if (customerIds == null) {
+            return isSelfOrAdmin(authentication, null);
+        }
+        return new HashSet<>(customerIds).stream().allMatch(customerId -> isSelfOrAdmin(authentication, customerId));
+    }
+
 }
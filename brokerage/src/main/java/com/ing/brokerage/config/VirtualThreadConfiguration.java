@@ -0,0 +1,36 @@
+package com.ing.brokerage.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code spring.threads.virtual.enabled}, Tomcat runs every request, and the transactional service calls it makes, on a
+ * virtual thread of its own. Connections are then handed out through a {@link ConnectionAdmissionDataSource} bounded by the
+ * pool size.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    @Bean
+    static BeanPostProcessor connectionAdmissionPostProcessor(
+        @Value("${spring.datasource.hikari.maximum-pool-size}") int maxConnections,
+        @Value("${spring.datasource.hikari.connection-timeout}") long timeoutMillis) {
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionAdmissionDataSource)) {
+                    return new ConnectionAdmissionDataSource(dataSource, maxConnections, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -11,4 +11,6 @@ public class Constants {
     public static final String DEFAULT_SEQUENCE_GENERATOR = "default-sequence-generator";
 
     public static final String TRY_ASSET = "TRY";
+
+    public static final String USERS_CACHE = "users";
 }
@@ -33,4 +33,10 @@ public class CustomerEntity extends AbstractBaseAuditUuidEntity {
     @Convert(converter = RoleConverter.class)
     private Role role;
 
+    /**
+     * Incremented whenever the issued tokens of the customer must be revoked, tokens carry the version they were issued with.
+     */
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
 }
@@ -0,0 +1,86 @@
+package com.ing.brokerage.customer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Answers whether a customer exists without a query in the common case. The ids of all customers are loaded at startup and
+ * kept current by committed creations and deletions, ids known to be missing are kept in a bounded negative cache. An id
+ * found in neither is checked against the customer table once and its result is cached, unless a change committed while it was
+ * checked, which the result may predate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class CustomerExistenceCache implements InitializingBean {
+
+    private static final int MAX_MISSING_IDS = 10_000;
+
+    private final CustomerRepository customerRepository;
+
+    private final Set<UUID> existingIds = ConcurrentHashMap.newKeySet();
+
+    private final Cache<UUID, Boolean> missingIds = Caffeine.newBuilder().maximumSize(MAX_MISSING_IDS).build();
+
+    /**
+     * Number of committed changes applied so far, guarded by this cache together with the updates of both id sets.
+     */
+    private long generation;
+
+    @Override
+    public void afterPropertiesSet() {
+
+        existingIds.addAll(customerRepository.findAllIds());
+        log.info("Customer existence cache loaded with {} customers", existingIds.size());
+    }
+
+    boolean exists(UUID customerId) {
+
+        if (existingIds.contains(customerId)) {
+            return true;
+        }
+        if (missingIds.getIfPresent(customerId) != null) {
+            return false;
+        }
+
+        long lookupGeneration = getGeneration();
+        boolean exists = customerRepository.existsById(customerId);
+        synchronized (this) {
+            if (generation == lookupGeneration) {
+                if (exists) {
+                    existingIds.add(customerId);
+                } else {
+                    missingIds.put(customerId, Boolean.TRUE);
+                }
+            }
+        }
+        return exists;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onExistenceChanged(CustomerExistenceChangedEvent event) {
+
+        generation++;
+        if (event.isExists()) {
+            existingIds.add(event.getCustomerId());
+            missingIds.invalidate(event.getCustomerId());
+        } else {
+            existingIds.remove(event.getCustomerId());
+            missingIds.put(event.getCustomerId(), Boolean.TRUE);
+        }
+    }
+
+    private synchronized long getGeneration() {
+
+        return generation;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ing.brokerage.customer;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a customer is created or deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+class CustomerExistenceChangedEvent {
+
+    private final UUID customerId;
+
+    private final boolean exists;
+}
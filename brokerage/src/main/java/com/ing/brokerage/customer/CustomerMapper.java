@@ -2,6 +2,7 @@ package com.ing.brokerage.customer;
 
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.factory.Mappers;
@@ -15,8 +16,19 @@ public interface CustomerMapper {
 
     CustomerResponse toResponse(CustomerEntity entity);
 
+    /**
+     * Maps the customer to a principal without its password hash, which can be cached and handed out.
+     */
+    @Mapping(target = "password", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
     UserResponse toUserResponse(CustomerEntity entity);
 
+    /**
+     * Maps the customer to a principal including its password hash, for checking the password only.
+     */
+    @Mapping(target = "authorities", ignore = true)
+    UserResponse toCredentials(CustomerEntity entity);
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void toEntity(@MappingTarget CustomerEntity entity, CustomerUpdateRequest request);
 }
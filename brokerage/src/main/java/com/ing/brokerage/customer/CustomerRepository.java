@@ -1,13 +1,21 @@
 package com.ing.brokerage.customer;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID>, JpaSpecificationExecutor<CustomerEntity> {
 
     Optional<CustomerEntity> findCustomerByUsername(String username);
+
+    @Query("SELECT c.id FROM customer c")
+    List<UUID> findAllIds();
+
+    @Query("SELECT c.id AS id, c.tokenVersion AS tokenVersion FROM customer c WHERE c.tokenVersion > 0")
+    List<CustomerTokenVersion> findRevokedTokenVersions();
 }
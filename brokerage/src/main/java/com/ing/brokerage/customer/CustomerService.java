@@ -1,5 +1,7 @@
 package com.ing.brokerage.customer;
 
+import static com.ing.brokerage.constant.Constants.USERS_CACHE;
+
 import com.ing.brokerage.exception.BusinessException;
 import com.ing.brokerage.exception.ExceptionConstants;
 import com.ing.brokerage.exception.RecordNotFoundException;
@@ -8,6 +10,9 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -23,9 +28,14 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
 
+    private final CustomerExistenceCache customerExistenceCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     @Transactional(rollbackFor = Exception.class)
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#request.username")
     public CustomerResponse createCustomer(@Valid CustomerCreateRequest request) throws BusinessException {
 
         Optional<CustomerEntity> existingCustomer = customerRepository.findCustomerByUsername(request.getUsername());
@@ -34,7 +44,9 @@ public class CustomerService {
         }
         CustomerEntity customerEntity = CustomerMapper.INSTANCE.toEntity(request);
         customerEntity.setPassword(passwordEncoder.encode(request.getPassword()));
-        return CustomerMapper.INSTANCE.toResponse(customerRepository.save(customerEntity));
+        CustomerEntity savedEntity = customerRepository.save(customerEntity);
+        eventPublisher.publishEvent(new CustomerExistenceChangedEvent(savedEntity.getId(), true));
+        return CustomerMapper.INSTANCE.toResponse(savedEntity);
     }
 
     public Page<CustomerResponse> listCustomers(Pageable pageable) {
@@ -48,17 +60,31 @@ public class CustomerService {
             customerRepository.findById(customerId).orElseThrow(() -> new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND)));
     }
 
+    /**
+     * Users are cached by username, including unknown ones, without their password hash. Every change of a customer evicts the
+     * cache after its transaction commits.
+     */
+    @Cacheable(cacheNames = USERS_CACHE)
     public Optional<UserResponse> getUserByUsername(String username) {
 
         return customerRepository.findCustomerByUsername(username).map(CustomerMapper.INSTANCE::toUserResponse);
     }
 
+    /**
+     * @return the user with its password hash, always read from the customer table.
+     */
+    public Optional<UserResponse> getCredentialsByUsername(String username) {
+
+        return customerRepository.findCustomerByUsername(username).map(CustomerMapper.INSTANCE::toCredentials);
+    }
+
     public boolean customerExists(UUID customerId) {
 
-        return customerRepository.existsById(customerId);
+        return customerExistenceCache.exists(customerId);
     }
 
     @Transactional(rollbackFor = Exception.class)
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
     public void deleteCustomer(UUID id) throws RecordNotFoundException {
 
         Optional<CustomerEntity> customerEntityOpt = customerRepository.findById(id);
@@ -67,9 +93,12 @@ public class CustomerService {
             throw new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND);
         }
         customerRepository.deleteById(id);
+        eventPublisher.publishEvent(new CustomerTokenRevokedEvent(id, Integer.MAX_VALUE));
+        eventPublisher.publishEvent(new CustomerExistenceChangedEvent(id, false));
     }
 
     @Transactional(rollbackFor = Exception.class)
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
     public CustomerResponse updateCustomer(UUID id, CustomerUpdateRequest request) throws RecordNotFoundException {
 
         Optional<CustomerEntity> customerEntityOpt = customerRepository.findById(id);
@@ -78,10 +107,17 @@ public class CustomerService {
             throw new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND);
         }
         CustomerEntity customerEntity = customerEntityOpt.get();
+        boolean revokeTokens = StringUtils.isNotBlank(request.getPassword())
+                               || (request.getRole() != null && !request.getRole().equals(customerEntity.getRole()))
+                               || (request.getUsername() != null && !request.getUsername().equals(customerEntity.getUsername()));
         CustomerMapper.INSTANCE.toEntity(customerEntity, request);
         if (StringUtils.isNotBlank(request.getPassword())) {
             customerEntity.setPassword(passwordEncoder.encode(request.getPassword()));
         }
+        if (revokeTokens) {
+            customerEntity.setTokenVersion(customerEntity.getTokenVersion() + 1);
+            eventPublisher.publishEvent(new CustomerTokenRevokedEvent(id, customerEntity.getTokenVersion()));
+        }
         return CustomerMapper.INSTANCE.toResponse(customerRepository.save(customerEntity));
     }
 }
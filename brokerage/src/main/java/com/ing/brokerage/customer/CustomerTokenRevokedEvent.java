@@ -0,0 +1,17 @@
+package com.ing.brokerage.customer;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when the tokens of a customer issued before the given token version must no longer be accepted.
+ */
+@Getter
+@RequiredArgsConstructor
+class CustomerTokenRevokedEvent {
+
+    private final UUID customerId;
+
+    private final int tokenVersion;
+}
@@ -0,0 +1,10 @@
+package com.ing.brokerage.customer;
+
+import java.util.UUID;
+
+interface CustomerTokenVersion {
+
+    UUID getId();
+
+    int getTokenVersion();
+}
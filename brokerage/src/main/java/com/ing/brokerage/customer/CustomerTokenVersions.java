@@ -0,0 +1,47 @@
+package com.ing.brokerage.customer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory registry of the current token version of every customer whose tokens have been revoked at least once. A token is
+ * accepted only if its customer still exists and it carries the customer's current version, so checking it costs two lookups
+ * instead of a query.
+ *
+ * <p>The registry is loaded from the customer table at startup and kept up to date by committed revocations. Deleted customers
+ * are revoked with the highest version at once; since that revocation is not kept across restarts, their tokens are rejected
+ * afterwards because the {@link CustomerExistenceCache} no longer finds them.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerTokenVersions implements InitializingBean {
+
+    private final CustomerRepository customerRepository;
+
+    private final CustomerExistenceCache customerExistenceCache;
+
+    private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+
+        customerRepository.findRevokedTokenVersions().forEach(version -> versions.put(version.getId(), version.getTokenVersion()));
+    }
+
+    public boolean isCurrent(UUID customerId, int tokenVersion) {
+
+        return tokenVersion >= versions.getOrDefault(customerId, 0) && customerExistenceCache.exists(customerId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokenRevoked(CustomerTokenRevokedEvent event) {
+
+        versions.merge(event.getCustomerId(), event.getTokenVersion(), Math::max);
+    }
+}
@@ -14,6 +14,8 @@ public class UserResponse extends CustomerResponse implements UserDetails {
 
     private String password;
 
+    private int tokenVersion;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
 
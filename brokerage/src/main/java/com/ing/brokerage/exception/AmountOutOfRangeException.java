@@ -0,0 +1,13 @@
+package com.ing.brokerage.exception;
+
+/**
+ * Thrown by fixed-point arithmetic when an amount does not fit into its scaled representation. Unchecked like the
+ * {@link ArithmeticException} it specializes, so that it passes through mappers and converters.
+ */
+public class AmountOutOfRangeException extends ArithmeticException {
+
+    public AmountOutOfRangeException(String msg) {
+
+        super(msg);
+    }
+}
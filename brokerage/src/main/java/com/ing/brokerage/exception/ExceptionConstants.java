@@ -19,4 +19,20 @@ public class ExceptionConstants {
     public static final String ORDER_NOT_FOUND = "B105";
 
     public static final String ORDER_STATUS_NOT_PENDING = "B106";
+
+    public static final String INVALID_CURSOR = "B107";
+
+    public static final String AMOUNT_OUT_OF_RANGE = "B108";
+
+    public static final String INVALID_IDEMPOTENCY_KEY = "B109";
+
+    public static final String IDEMPOTENCY_KEY_REUSED = "B110";
+
+    public static final String ORDER_INTAKE_FULL = "B111";
+
+    public static final String INVALID_EXPIRY = "B112";
+
+    public static final String INVALID_FILL_SIZE = "B113";
+
+    public static final String ORDERS_NOT_CROSSED = "B114";
 }
@@ -0,0 +1,9 @@
+package com.ing.brokerage.exception;
+
+public class TooManyRequestsException extends BaseException {
+
+    public TooManyRequestsException(String messageKey, Object... args) {
+
+        super(messageKey, args);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ing.brokerage.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves matched, cancelled and expired orders older than the archive horizon from the order table to the order archive, where
+ * they are kept by the month of their creation. Orders in these statuses never change again, so they are moved without taking
+ * part in the customer sequencing.
+ *
+ * <p>Orders are moved in chunks, each in a transaction of its own, so that no transaction holds the row locks of more than a
+ * chunk. The idempotency keys of the archived orders are removed with them; a retry with such a key creates a new order. Their
+ * fills stay in the fill ledger and are found through the order history view. Once a chunk is committed its orders are removed
+ * from the {@link OrderReadModel}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.archive", name = "enabled", havingValue = "true")
+class OrderArchiver implements DisposableBean {
+
+    private static final String SELECT_ARCHIVABLE =
+        "select id, customer_id from stock_order where order_status_id in (:orderStatuses) and created_at < :cutoff fetch first :chunkSize rows only";
+
+    private static final String INSERT_ARCHIVE =
+        "insert into stock_order_archive (id, created_month, created_at, created_by, updated_at, updated_by, update_version, "
+        + "customer_id, asset_name, order_side_id, size, price, filled_size, order_status_id, time_in_force_id, expires_at) "
+        + "select id, extract(year from created_at) * 100 + extract(month from created_at), created_at, created_by, updated_at, "
+        + "updated_by, update_version, customer_id, asset_name, order_side_id, size, price, filled_size, order_status_id, "
+        + "time_in_force_id, expires_at from stock_order where id in (:ids)";
+
+    private static final String DELETE_IDEMPOTENCY_KEYS = "delete from order_idempotency_key where order_id in (:ids)";
+
+    private static final String DELETE_ORDERS = "delete from stock_order where id in (:ids)";
+
+    private static final List<Long> TERMINAL_STATUSES =
+        List.of(OrderStatus.MATCHED.getId(), OrderStatus.CANCELLED.getId(), OrderStatus.EXPIRED.getId());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OrderReadModel orderReadModel;
+
+    private final Duration horizon;
+
+    private final Duration interval;
+
+    private final int chunkSize;
+
+    private final Counter archived;
+
+    private final ScheduledExecutorService archiver =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("order-archiver").factory());
+
+    OrderArchiver(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OrderReadModel orderReadModel,
+                  @Value("${application.archive.horizon}") Duration horizon, @Value("${application.archive.interval}") Duration interval,
+                  @Value("${application.archive.chunk-size}") int chunkSize, MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderReadModel = orderReadModel;
+        this.horizon = horizon;
+        this.interval = interval;
+        this.chunkSize = chunkSize;
+        this.archived = Counter.builder("brokerage.order.archived")
+                               .description("Orders moved to the order archive")
+                               .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        archiver.scheduleWithFixedDelay(this::archive, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Archives every order past the horizon, chunk by chunk.
+     */
+    void archive() {
+
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(horizon);
+        try {
+            int total = 0;
+            int count;
+            do {
+                count = archiveChunk(cutoff);
+                total += count;
+            } while (count == chunkSize);
+            if (total > 0) {
+                log.info("Archived {} orders created before {}", total, cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Order archival failed, retrying in {}", interval, e);
+        }
+    }
+
+    /**
+     * Moves a chunk of the orders created before the cutoff to the archive.
+     *
+     * @return the number of archived orders.
+     */
+    int archiveChunk(OffsetDateTime cutoff) {
+
+        Map<Long, UUID> orders = transactionTemplate.execute(status -> {
+            Map<Long, UUID> customerIds = new LinkedHashMap<>();
+            jdbcTemplate.query(SELECT_ARCHIVABLE, Map.of("orderStatuses", TERMINAL_STATUSES,
+                                                         "cutoff", cutoff,
+                                                         "chunkSize", chunkSize),
+                               rs -> {
+                                   customerIds.put(rs.getLong(1), rs.getObject(2, UUID.class));
+                               });
+            if (customerIds.isEmpty()) {
+                return customerIds;
+            }
+            Map<String, List<Long>> parameters = Map.of("ids", List.copyOf(customerIds.keySet()));
+            jdbcTemplate.update(INSERT_ARCHIVE, parameters);
+            jdbcTemplate.update(DELETE_IDEMPOTENCY_KEYS, parameters);
+            jdbcTemplate.update(DELETE_ORDERS, parameters);
+            return customerIds;
+        });
+        orders.forEach((orderId, customerId) -> orderReadModel.remove(customerId, orderId));
+        archived.increment(orders.size());
+        return orders.size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        archiver.shutdown();
+        archiver.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
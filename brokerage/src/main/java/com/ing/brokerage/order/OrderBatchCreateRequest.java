@@ -0,0 +1,17 @@
+package com.ing.brokerage.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class OrderBatchCreateRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid OrderCreateRequest> orders;
+}
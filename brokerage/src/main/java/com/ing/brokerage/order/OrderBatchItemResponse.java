@@ -0,0 +1,15 @@
+package com.ing.brokerage.order;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class OrderBatchItemResponse {
+
+    private Integer index;
+
+    private OrderResponse order;
+
+    private String error;
+}
@@ -0,0 +1,175 @@
+package com.ing.brokerage.order;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Price-time priority book of the open orders of a single asset. Bids are sorted by the highest price first, asks by the
+ * lowest price first, ties are broken by creation time and then by id.
+ *
+ * <p>Orders are filled partially: an incoming order crosses the resting orders of the opposite side in priority order, each by
+ * the smaller of the two unfilled sizes, until it is filled or no resting order crosses it any more. Orders of the same customer
+ * never cross each other. The book is not thread safe, it is owned by the matcher thread.
+ */
+class OrderBook {
+
+    private static final Comparator<BookOrder> TIME_PRIORITY =
+        Comparator.comparing(BookOrder::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                  .thenComparing(BookOrder::getId);
+
+    private static final Comparator<BookOrder> BID_PRIORITY =
+        Comparator.comparingLong(BookOrder::getPrice).reversed().thenComparing(TIME_PRIORITY);
+
+    private static final Comparator<BookOrder> ASK_PRIORITY =
+        Comparator.comparingLong(BookOrder::getPrice).thenComparing(TIME_PRIORITY);
+
+    @Getter
+    private final String assetName;
+
+    private final NavigableSet<BookOrder> bids = new TreeSet<>(BID_PRIORITY);
+
+    private final NavigableSet<BookOrder> asks = new TreeSet<>(ASK_PRIORITY);
+
+    private final Map<Long, BookOrder> orders = new HashMap<>();
+
+    OrderBook(String assetName) {
+
+        this.assetName = assetName;
+    }
+
+    /**
+     * Crosses the incoming order against the opposite side of the book. Filled resting orders are removed from the book, the
+     * unfilled part of the incoming order rests in the book.
+     *
+     * @return the fills of the incoming order, in the order they were crossed.
+     */
+    List<Match> add(BookOrder incoming) {
+
+        if (orders.containsKey(incoming.getId())) {
+            return List.of();
+        }
+
+        boolean buy = OrderSide.BUY.equals(incoming.getOrderSide());
+        NavigableSet<BookOrder> opposite = buy ? asks : bids;
+        List<Match> matches = new ArrayList<>();
+
+        Iterator<BookOrder> restingOrders = opposite.iterator();
+        while (incoming.getUnfilledSize() > 0 && restingOrders.hasNext()) {
+            BookOrder resting = restingOrders.next();
+            BookOrder bid = buy ? incoming : resting;
+            BookOrder ask = buy ? resting : incoming;
+            if (bid.getPrice() < ask.getPrice()) {
+                break;
+            }
+            if (resting.getCustomerId().equals(incoming.getCustomerId())) {
+                continue;
+            }
+
+            long size = Math.min(resting.getUnfilledSize(), incoming.getUnfilledSize());
+            resting.unfilledSize -= size;
+            incoming.unfilledSize -= size;
+            if (resting.getUnfilledSize() == 0) {
+                restingOrders.remove();
+                orders.remove(resting.getId());
+            }
+            matches.add(new Match(assetName, bid.getId(), ask.getId()));
+        }
+
+        if (incoming.getUnfilledSize() > 0) {
+            (buy ? bids : asks).add(incoming);
+            orders.put(incoming.getId(), incoming);
+        }
+        return matches;
+    }
+
+    /**
+     * Lowers the unfilled size of a resting order filled outside of the book. A larger size is ignored, the book may already be
+     * ahead of the fill.
+     */
+    void reduce(Long orderId, long unfilledSize) {
+
+        BookOrder order = orders.get(orderId);
+        if (order == null || unfilledSize >= order.getUnfilledSize()) {
+            return;
+        }
+        if (unfilledSize <= 0) {
+            remove(orderId);
+        } else {
+            order.unfilledSize = unfilledSize;
+        }
+    }
+
+    boolean remove(Long orderId) {
+
+        BookOrder order = orders.remove(orderId);
+        if (order == null) {
+            return false;
+        }
+        return OrderSide.BUY.equals(order.getOrderSide()) ? bids.remove(order) : asks.remove(order);
+    }
+
+    boolean contains(Long orderId) {
+
+        return orders.containsKey(orderId);
+    }
+
+    int size() {
+
+        return orders.size();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class BookOrder {
+
+        private final Long id;
+
+        private final UUID customerId;
+
+        private final OrderSide orderSide;
+
+        private final long price;
+
+        private long unfilledSize;
+
+        private final OffsetDateTime createdAt;
+
+        static BookOrder of(OrderEntity entity) {
+
+            return new BookOrder(entity.getId(), entity.getCustomerId(), entity.getOrderSide(), entity.getPrice(),
+                                 entity.getSize() - entity.getFilledSize(), entity.getCreatedAt());
+        }
+
+        static BookOrder of(OrderEvent event) {
+
+            return new BookOrder(event.getId(), event.getCustomerId(), event.getOrderSide(), event.getPrice(),
+                                 event.getSize() - event.getFilledSize(), event.getCreatedAt());
+        }
+    }
+
+    /**
+     * A crossed buy and sell order. The fill is sized by the unfilled sizes of both orders at settlement, which the book tracks
+     * but does not own.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class Match {
+
+        private final String assetName;
+
+        private final Long buyOrderId;
+
+        private final Long sellOrderId;
+    }
+}
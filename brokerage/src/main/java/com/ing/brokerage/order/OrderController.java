@@ -0,0 +1,145 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.exception.BaseException;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import jakarta.validation.Valid;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/orders")
+public class OrderController {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final OrderService orderService;
+
+    private final OrderSequencer orderSequencer;
+
+    private final Optional<OrderIntake> orderIntake;
+
+    /**
+     * Creates the order, or queues it and answers with 202 Accepted if asynchronous intake is enabled. Orders with an
+     * idempotency key are always created synchronously, so that a retry finds the order of its key.
+     */
+    @PostMapping
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, #request.customerId)")
+    ResponseEntity<?> createOrder(@RequestBody OrderCreateRequest request,
+                                  @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey)
+        throws BaseException {
+
+        if (orderIntake.isPresent() && idempotencyKey == null) {
+            OrderIntakeResponse response = orderIntake.get().submit(request);
+            return ResponseEntity.accepted()
+                                 .location(ServletUriComponentsBuilder
+                                               .fromCurrentRequest().path("/intake/{orderId}")
+                                               .buildAndExpand(response.getId()).toUri())
+                                 .body(response);
+        }
+
+        OrderResponse response = orderSequencer.createOrder(request, idempotencyKey);
+        return ResponseEntity.created(ServletUriComponentsBuilder
+                                          .fromCurrentRequest().path("/{orderId}")
+                                          .buildAndExpand(response.getId()).toUri())
+                             .body(response);
+    }
+
+    @GetMapping("/intake/{orderId}")
+    @PostAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, returnObject.body.customerId)")
+    ResponseEntity<OrderIntakeResponse> getIntakeStatus(@PathVariable("orderId") Long orderId) throws RecordNotFoundException {
+
+        if (orderIntake.isEmpty()) {
+            throw new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND);
+        }
+        return ResponseEntity.ok(orderIntake.get().getStatus(orderId));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdminForAll(authentication, #request.orders?.![customerId])")
+    ResponseEntity<List<OrderBatchItemResponse>> createOrders(@RequestBody OrderBatchCreateRequest request) throws BaseException {
+
+        return ResponseEntity.ok(orderSequencer.createOrders(request));
+    }
+
+    /**
+     * Fills the order by the given size, or by its whole unfilled size if no size is given.
+     */
+    @PatchMapping("/{orderId}")
+    @PreAuthorize(value = "hasRole('ADMIN')")
+    ResponseEntity<OrderResponse> matchOrder(@PathVariable("orderId") Long orderId,
+                                             @RequestParam(name = "size", required = false) BigDecimal size) throws BaseException {
+
+        return ResponseEntity.ok(orderSequencer.matchOrder(orderId, size));
+    }
+
+    @GetMapping("/{orderId}/fills")
+    @PreAuthorize(value = "hasRole('ADMIN')")
+    ResponseEntity<List<OrderFillResponse>> listFills(@PathVariable("orderId") Long orderId) throws RecordNotFoundException {
+
+        return ResponseEntity.ok(orderService.listFills(orderId));
+    }
+
+    @DeleteMapping("/{orderId}")
+    @PreAuthorize(value = "hasRole('ADMIN')")
+    ResponseEntity<OrderResponse> cancelOrder(@PathVariable("orderId") Long orderId) throws BaseException {
+
+        return ResponseEntity.ok(orderSequencer.cancelOrder(orderId));
+    }
+
+    @GetMapping
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, #searchRequest.customerId)")
+    ResponseEntity<Page<OrderResponse>> listOrders(
+        @ParameterObject OrderSearchRequest searchRequest,
+        @ParameterObject @PageableDefault(sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+
+        return ResponseEntity.ok(orderService.listOrders(searchRequest, pageable));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, #searchRequest.customerId)")
+    ResponseEntity<StreamingResponseBody> exportOrders(
+        @Valid @ParameterObject OrderSearchRequest searchRequest,
+        @RequestParam(name = "format", defaultValue = "NDJSON") OrderExportFormat format) {
+
+        return ResponseEntity.ok()
+                             .contentType(format.getMediaType())
+                             .body(outputStream -> orderService.exportOrders(searchRequest, format, outputStream));
+    }
+
+    @GetMapping("/scroll")
+    @PreAuthorize(value = "@userSecurity.isSelfOrAdmin(authentication, #searchRequest.customerId)")
+    ResponseEntity<CursorPage<OrderResponse>> scrollOrders(
+        @Valid @ParameterObject OrderSearchRequest searchRequest,
+        @Valid @ParameterObject CursorRequest cursorRequest) throws BusinessException {
+
+        return ResponseEntity.ok(orderService.scrollOrders(searchRequest, cursorRequest));
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.ing.brokerage.order;
 
+import com.ing.brokerage.base.decimal.FixedPoint;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,9 +29,21 @@ public class OrderCreateRequest {
 
     @PositiveOrZero
     @NotNull
+    @Digits(integer = 14, fraction = FixedPoint.SCALE)
     private BigDecimal size;
 
     @Positive
     @NotNull
+    @Digits(integer = 14, fraction = FixedPoint.SCALE)
     private BigDecimal price;
+
+    /**
+     * Defaults to GTC.
+     */
+    private TimeInForce timeInForce;
+
+    /**
+     * Expiry time of a GTD order, not given for other orders.
+     */
+    private OffsetDateTime expiresAt;
 }
@@ -0,0 +1,73 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.decimal.FixedPointConverter;
+import com.ing.brokerage.base.entity.AbstractBaseAuditEntity;
+import com.ing.brokerage.constant.Constants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+@Getter
+@Setter
+@Entity(name = "stock_order")
+@SequenceGenerator(name = Constants.DEFAULT_SEQUENCE_GENERATOR, sequenceName = "stock_order_id_seq",
+                   allocationSize = OrderEntity.ID_ALLOCATION_SIZE)
+@Table(indexes = {
+    @Index(name = "o_customer_idx", columnList = "customerId"),
+    @Index(name = "o_cid_ca_idx", columnList = "customerId, createdAt"),
+    @Index(name = "o_cid_os_ca_idx", columnList = "customerId, orderStatus, createdAt"),
+    @Index(name = "o_cid_an_ca_idx", columnList = "customerId, assetName, createdAt"),
+    @Index(name = "o_os_ea_idx", columnList = "orderStatus, expiresAt"),
+    @Index(name = "o_os_ca_idx", columnList = "orderStatus, createdAt")
+})
+class OrderEntity extends AbstractBaseAuditEntity implements OrderRecord {
+
+    /**
+     * Allocation size of stock_order_id_seq. Ids are taken in blocks, a fetched sequence value is the upper end of the next block.
+     */
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "asset_name", nullable = false)
+    private String assetName;
+
+    @Column(name = "order_side_id", nullable = false)
+    @Convert(converter = OrderSideConverter.class)
+    private OrderSide orderSide;
+
+    @Column(name = "size", nullable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long size;
+
+    @Column(name = "price", nullable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long price;
+
+    @Column(name = "filled_size", nullable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long filledSize;
+
+    @Column(name = "order_status_id", nullable = false)
+    @Convert(converter = OrderStatusConverter.class)
+    private OrderStatus orderStatus;
+
+    @Column(name = "time_in_force_id", nullable = false)
+    @Convert(converter = TimeInForceConverter.class)
+    private TimeInForce timeInForce;
+
+    @Column(name = "expires_at")
+    @TimeZoneStorage(TimeZoneStorageType.NATIVE)
+    private OffsetDateTime expiresAt;
+}
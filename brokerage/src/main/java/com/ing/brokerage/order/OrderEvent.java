@@ -0,0 +1,45 @@
+package com.ing.brokerage.order;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Snapshot of an order lifecycle transition, published inside the transaction that performed it. Size, price and filled
+ * size are {@link com.ing.brokerage.base.decimal.FixedPoint} values.
+ */
+@Getter
+@Setter
+public class OrderEvent {
+
+    private OrderEventType eventType;
+
+    private Long id;
+
+    private UUID customerId;
+
+    private String assetName;
+
+    private OrderSide orderSide;
+
+    private long size;
+
+    private long price;
+
+    private long filledSize;
+
+    /**
+     * Price the fill recorded by a MATCHED or PARTIALLY_FILLED event was executed at, when two orders were matched at the price
+     * of the resting one. Null if the fill was executed at the price of the order itself.
+     */
+    private Long fillPrice;
+
+    private OrderStatus orderStatus;
+
+    private OffsetDateTime createdAt;
+
+    private TimeInForce timeInForce;
+
+    private OffsetDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.ing.brokerage.order;
+
+public enum OrderEventType {
+
+    CREATED,
+    MATCHED,
+    CANCELLED,
+    EXPIRED,
+    PARTIALLY_FILLED
+}
@@ -0,0 +1,195 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.timer.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Expires DAY and GTD orders when their expiry time passes. Open orders with an expiry time are kept in a
+ * {@link TimingWheel} instead of having a scheduled task each; the wheel is loaded from the order table on startup and
+ * followed by the committed order creations. A single thread turns the wheel every tick and expires the due orders in batches
+ * through {@link OrderSequencer#expireOrders(List)}.
+ *
+ * <p>Orders matched or cancelled before their expiry stay in the wheel and are skipped when they come due. A batch which can
+ * not be expired is retried order by order, so that one failing order does not keep the others pending. An order which still
+ * can not be expired goes back into the wheel and is retried after a delay doubling with every attempt, up to
+ * {@value #MAX_RETRY_TICKS} ticks.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.expiry", name = "enabled", havingValue = "true")
+class OrderExpiryScheduler implements DisposableBean {
+
+    private static final String SELECT_EXPIRING =
+        "select id, expires_at from stock_order where order_status_id in (?, ?) and expires_at is not null";
+
+    private static final int MAX_RETRY_TICKS = 64;
+
+    private final OrderSequencer orderSequencer;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration tick;
+
+    private final int batchSize;
+
+    private final Counter expired;
+
+    private final TimingWheel timingWheel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // failed attempts per order, only touched by the expiring thread
+    private final Map<Long, Integer> retries = new HashMap<>();
+
+    private final ScheduledExecutorService expirer =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("order-expiry").factory());
+
+    OrderExpiryScheduler(OrderSequencer orderSequencer, JdbcTemplate jdbcTemplate, @Value("${application.expiry.tick}") Duration tick,
+                         @Value("${application.expiry.batch-size}") int batchSize, MeterRegistry meterRegistry) {
+
+        this.orderSequencer = orderSequencer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tick = tick;
+        this.batchSize = batchSize;
+        this.timingWheel = new TimingWheel(tick.toMillis(), System.currentTimeMillis());
+        this.expired = Counter.builder("brokerage.order.expired")
+                              .description("Orders expired by their time in force")
+                              .register(meterRegistry);
+        Gauge.builder("brokerage.order.expiring", this, OrderExpiryScheduler::size)
+             .description("Orders waiting in the expiry timing wheel")
+             .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        expirer.execute(this::load);
+        expirer.scheduleWithFixedDelay(this::expire, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+
+        if (OrderEventType.CREATED.equals(event.getEventType()) && event.getExpiresAt() != null) {
+            schedule(event.getId(), event.getExpiresAt().toInstant().toEpochMilli());
+        }
+    }
+
+    /**
+     * Adds every open order with an expiry time to the wheel. Orders created meanwhile may be added twice, which is harmless.
+     */
+    void load() {
+
+        int[] count = {0};
+        jdbcTemplate.query(SELECT_EXPIRING, rs -> {
+            schedule(rs.getLong(1), rs.getObject(2, OffsetDateTime.class).toInstant().toEpochMilli());
+            count[0]++;
+        }, OrderStatus.PENDING.getId(), OrderStatus.PARTIALLY_FILLED.getId());
+        log.info("Order expiry loaded {} open orders", count[0]);
+    }
+
+    /**
+     * Turns the wheel up to the current time and expires the orders due by then.
+     */
+    void expire() {
+
+        expire(System.currentTimeMillis());
+    }
+
+    void expire(long nowMillis) {
+
+        List<Long> dueOrderIds = new ArrayList<>();
+        lock.lock();
+        try {
+            timingWheel.advance(nowMillis, dueOrderIds::add);
+        } finally {
+            lock.unlock();
+        }
+
+        for (int from = 0; from < dueOrderIds.size(); from += batchSize) {
+            expire(dueOrderIds.subList(from, Math.min(from + batchSize, dueOrderIds.size())));
+        }
+    }
+
+    private void expire(List<Long> orderIds) {
+
+        try {
+            expired.increment(orderSequencer.expireOrders(orderIds));
+            if (!retries.isEmpty()) {
+                orderIds.forEach(retries::remove);
+            }
+        } catch (Exception e) {
+            if (orderIds.size() == 1) {
+                retry(orderIds.getFirst(), e);
+                return;
+            }
+            log.warn("Orders {}..{} could not be expired together, expiring them one by one", orderIds.getFirst(), orderIds.getLast(),
+                     e);
+            for (Long orderId : orderIds) {
+                try {
+                    expired.increment(orderSequencer.expireOrders(List.of(orderId)));
+                    retries.remove(orderId);
+                } catch (Exception orderException) {
+                    retry(orderId, orderException);
+                }
+            }
+        }
+    }
+
+    private void retry(Long orderId, Exception e) {
+
+        int attempts = retries.merge(orderId, 1, Integer::sum);
+        long delayMillis = tick.toMillis() * Math.min(1L << Math.min(attempts - 1, 30), MAX_RETRY_TICKS);
+        log.error("Order {} could not be expired, retrying in {} ms", orderId, delayMillis, e);
+        schedule(orderId, System.currentTimeMillis() + delayMillis);
+    }
+
+    private void schedule(long orderId, long expiresAtMillis) {
+
+        lock.lock();
+        try {
+            timingWheel.add(orderId, expiresAtMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+
+        lock.lock();
+        try {
+            return timingWheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        expirer.shutdown();
+        expirer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ing.brokerage.order;
+
+import java.util.function.Consumer;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+interface OrderExportRepository {
+
+    /**
+     * Passes the matching orders to the consumer one by one in the given order, reading them through a forward-only cursor
+     * which fetches the given number of rows at a time. Orders are read-only and detached once consumed, so the persistence
+     * context does not grow with the result. Orders are read from the order table or the order history view, whichever the
+     * entity class maps.
+     */
+    <T extends OrderRecord> void forEach(Class<T> entityClass, Specification<T> specification, Sort sort, int fetchSize,
+                                         Consumer<? super T> consumer);
+}
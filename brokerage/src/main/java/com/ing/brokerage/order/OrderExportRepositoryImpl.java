@@ -0,0 +1,43 @@
+package com.ing.brokerage.order;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.function.Consumer;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OrderRecord> void forEach(Class<T> entityClass, Specification<T> specification, Sort sort, int fetchSize,
+                                                Consumer<? super T> consumer) {
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = criteriaQuery.from(entityClass);
+        criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder))
+                     .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        Query<T> query = entityManager.createQuery(criteriaQuery).unwrap(Query.class);
+        try (ScrollableResults<T> results = query.setReadOnly(true)
+                                                 .setFetchSize(fetchSize)
+                                                 .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                T order = results.get();
+                consumer.accept(order);
+                entityManager.detach(order);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ing.brokerage.order;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes exported orders to a stream, one line per order. Lines are buffered and reach the client whenever the buffer fills, so
+ * memory use does not depend on the number of orders.
+ */
+abstract class OrderExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final Writer writer;
+
+    private OrderExportWriter(OutputStream outputStream) {
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static OrderExportWriter of(OrderExportFormat format, OutputStream outputStream) throws IOException {
+
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(outputStream);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    abstract void write(OrderRecord order) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+
+        writer.flush();
+    }
+
+    private static String createdAt(OrderRecord order) {
+
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(order.getCreatedAt().withOffsetSameInstant(ZoneOffset.UTC));
+    }
+
+    private static final class NdjsonWriter extends OrderExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream outputStream) throws IOException {
+
+            super(outputStream);
+            generator = JSON_FACTORY.createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(OrderRecord order) throws IOException {
+
+            generator.writeStartObject();
+            generator.writeNumberField("id", order.getId());
+            generator.writeStringField("customerId", order.getCustomerId().toString());
+            generator.writeStringField("assetName", order.getAssetName());
+            generator.writeStringField("orderSide", order.getOrderSide().name());
+            generator.writeNumberField("size", FixedPoint.toDecimal(order.getSize()));
+            generator.writeNumberField("price", FixedPoint.toDecimal(order.getPrice()));
+            generator.writeStringField("orderStatus", order.getOrderStatus().name());
+            generator.writeStringField("createdAt", createdAt(order));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            generator.close();
+            super.close();
+        }
+    }
+
+    private static final class CsvWriter extends OrderExportWriter {
+
+        private CsvWriter(OutputStream outputStream) throws IOException {
+
+            super(outputStream);
+            writer.write("id,customerId,assetName,orderSide,size,price,orderStatus,createdAt\n");
+        }
+
+        @Override
+        void write(OrderRecord order) throws IOException {
+
+            writer.write(String.valueOf(order.getId()));
+            writer.write(',');
+            writer.write(order.getCustomerId().toString());
+            writer.write(',');
+            writer.write(quote(order.getAssetName()));
+            writer.write(',');
+            writer.write(order.getOrderSide().name());
+            writer.write(',');
+            writer.write(FixedPoint.toDecimal(order.getSize()).toPlainString());
+            writer.write(',');
+            writer.write(FixedPoint.toDecimal(order.getPrice()).toPlainString());
+            writer.write(',');
+            writer.write(order.getOrderStatus().name());
+            writer.write(',');
+            writer.write(createdAt(order));
+            writer.write('\n');
+        }
+
+        private static String quote(String value) {
+
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.decimal.FixedPointConverter;
+import com.ing.brokerage.base.entity.AbstractBaseEntity;
+import com.ing.brokerage.constant.Constants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+/**
+ * A single execution of an order. The counter order is the opposite side of the fill, it is empty for manual fills.
+ */
+@Getter
+@Setter
+@Entity(name = "order_fill")
+@SequenceGenerator(name = Constants.DEFAULT_SEQUENCE_GENERATOR, sequenceName = "order_fill_id_seq", allocationSize = 50)
+@Table(indexes = @Index(name = "of_order_idx", columnList = "orderId"))
+class OrderFillEntity extends AbstractBaseEntity {
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(name = "counter_order_id", updatable = false)
+    private Long counterOrderId;
+
+    @Column(name = "size", nullable = false, updatable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long size;
+
+    @Column(name = "price", nullable = false, updatable = false, precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long price;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @TimeZoneStorage(TimeZoneStorageType.NATIVE)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.ing.brokerage.order;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface OrderFillRepository extends JpaRepository<OrderFillEntity, Long> {
+
+    List<OrderFillEntity> findAllByOrderIdOrderById(Long orderId);
+}
@@ -0,0 +1,23 @@
+package com.ing.brokerage.order;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class OrderFillResponse {
+
+    private Long id;
+
+    private Long orderId;
+
+    private Long counterOrderId;
+
+    private BigDecimal size;
+
+    private BigDecimal price;
+
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,66 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.decimal.FixedPointConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+
+/**
+ * Read-only view of the orders in both the order table and its archive, queried only when a search reaches past the archive
+ * horizon or an order is no longer found in the order table.
+ */
+@Getter
+@Immutable
+@Entity(name = "order_history")
+class OrderHistoryEntity implements OrderRecord {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @Column(name = "asset_name")
+    private String assetName;
+
+    @Column(name = "order_side_id")
+    @Convert(converter = OrderSideConverter.class)
+    private OrderSide orderSide;
+
+    @Column(name = "size", precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long size;
+
+    @Column(name = "price", precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long price;
+
+    @Column(name = "filled_size", precision = FixedPoint.PRECISION, scale = FixedPoint.SCALE)
+    @Convert(converter = FixedPointConverter.class)
+    private long filledSize;
+
+    @Column(name = "order_status_id")
+    @Convert(converter = OrderStatusConverter.class)
+    private OrderStatus orderStatus;
+
+    @Column(name = "time_in_force_id")
+    @Convert(converter = TimeInForceConverter.class)
+    private TimeInForce timeInForce;
+
+    @Column(name = "expires_at")
+    @TimeZoneStorage(TimeZoneStorageType.NATIVE)
+    private OffsetDateTime expiresAt;
+
+    @Column(name = "created_at")
+    @TimeZoneStorage(TimeZoneStorageType.NATIVE)
+    private OffsetDateTime createdAt;
+}
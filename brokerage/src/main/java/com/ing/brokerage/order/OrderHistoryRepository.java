@@ -0,0 +1,12 @@
+package com.ing.brokerage.order;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.Repository;
+
+interface OrderHistoryRepository extends Repository<OrderHistoryEntity, Long>, JpaSpecificationExecutor<OrderHistoryEntity> {
+
+    Optional<OrderHistoryEntity> findById(Long id);
+
+    boolean existsById(Long id);
+}
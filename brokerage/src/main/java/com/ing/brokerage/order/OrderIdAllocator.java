@@ -0,0 +1,46 @@
+package com.ing.brokerage.order;
+
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reserves order ids ahead of the order insert, for orders accepted by the {@link OrderIntake}. Ids are taken from
+ * stock_order_id_seq in blocks, the same way Hibernate's pooled optimizer takes them, so reserved ids never collide with the ids
+ * Hibernate assigns to orders created synchronously.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.intake", name = "async", havingValue = "true")
+class OrderIdAllocator {
+
+    private static final String NEXT_VALUE = "select next value for stock_order_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+
+    private long last;
+
+    OrderIdAllocator(JdbcTemplate jdbcTemplate) {
+
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    long nextId() {
+
+        lock.lock();
+        try {
+            if (next == 0 || next > last) {
+                Long value = jdbcTemplate.queryForObject(NEXT_VALUE, Long.class);
+                last = value;
+                next = Math.max(1, value - OrderEntity.ID_ALLOCATION_SIZE + 1);
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ing.brokerage.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers the order created for each idempotency key of a customer, so that a retried creation returns the original order
+ * instead of creating and locking assets for it again.
+ *
+ * <p>Keys are stored in the order_idempotency_key table in the transaction creating their order, its primary key rejects a
+ * key used twice. Responses of recently used keys are kept in a bounded LRU cache; a key missing from the cache is looked up
+ * in the table and answered with the current state of its order.
+ */
+@Component
+class OrderIdempotency {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1," + MAX_KEY_LENGTH + "}");
+
+    private static final String SELECT_ORDER_ID =
+        "select order_id from order_idempotency_key where customer_id = ? and idempotency_key = ?";
+
+    private static final String INSERT_KEY =
+        "insert into order_idempotency_key (customer_id, idempotency_key, order_id, created_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final OrderRepository orderRepository;
+
+    private final Cache<String, OrderResponse> responses;
+
+    OrderIdempotency(JdbcTemplate jdbcTemplate, OrderRepository orderRepository,
+                     @Value("${application.idempotency.cache-size}") long cacheSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderRepository = orderRepository;
+        this.responses = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    /**
+     * Returns the order created earlier with the key, if any. A key which was used for an order with different attributes is
+     * rejected.
+     */
+    Optional<OrderResponse> find(OrderCreateRequest request, String key) throws BusinessException {
+
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new BusinessException(ExceptionConstants.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String cacheKey = cacheKey(request.getCustomerId(), key);
+        OrderResponse response = responses.getIfPresent(cacheKey);
+        if (response == null) {
+            response = jdbcTemplate.query(SELECT_ORDER_ID, (rs, rowNum) -> rs.getLong(1), request.getCustomerId(), key)
+                                   .stream()
+                                   .findFirst()
+                                   .flatMap(orderRepository::findById)
+                                   .map(orderEntity -> OrderMapper.INSTANCE.toResponse(orderEntity, null))
+                                   .orElse(null);
+            if (response == null) {
+                return Optional.empty();
+            }
+            responses.put(cacheKey, response);
+        }
+
+        if (!isSameOrder(request, response)) {
+            throw new BusinessException(ExceptionConstants.IDEMPOTENCY_KEY_REUSED);
+        }
+        return Optional.of(response);
+    }
+
+    /**
+     * Stores the key of a created order in the current transaction, and caches its response once the transaction commits.
+     */
+    void save(String key, OrderResponse response) {
+
+        jdbcTemplate.update(INSERT_KEY, response.getCustomerId(), key, response.getId(), OffsetDateTime.now(ZoneOffset.UTC));
+
+        String cacheKey = cacheKey(response.getCustomerId(), key);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+
+                responses.put(cacheKey, response);
+            }
+        });
+    }
+
+    private static boolean isSameOrder(OrderCreateRequest request, OrderResponse response) {
+
+        return Objects.equals(request.getAssetName(), response.getAssetName())
+               && request.getOrderSide() == response.getOrderSide()
+               && request.getSize() != null && request.getSize().compareTo(response.getSize()) == 0
+               && request.getPrice() != null && request.getPrice().compareTo(response.getPrice()) == 0;
+    }
+
+    private static String cacheKey(UUID customerId, String key) {
+
+        return customerId + "/" + key;
+    }
+}
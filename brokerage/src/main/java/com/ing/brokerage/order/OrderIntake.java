@@ -0,0 +1,249 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.exception.BaseException;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ErrorResponse;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import com.ing.brokerage.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accepts orders asynchronously. A submitted order is validated, given its id and put on a bounded queue, and the caller gets
+ * the id back at once; a full queue rejects the order, so a burst is pushed back to the clients instead of piling up request
+ * threads. Consumer threads drain the queue in micro-batches and create the orders of each customer in one transaction on the
+ * customer's {@link OrderSequencer} lane.
+ *
+ * <p>The outcome of recently submitted orders is kept in a bounded cache for polling. Created orders are also published as
+ * order events through the outbox.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.intake", name = "async", havingValue = "true")
+class OrderIntake implements DisposableBean {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private static final String UNKNOWN_ERROR = new ErrorResponse().getError();
+
+    private final OrderSequencer orderSequencer;
+
+    private final OrderIdAllocator orderIdAllocator;
+
+    private final OrderRepository orderRepository;
+
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    private final CustomerService customerService;
+
+    private final Validator validator;
+
+    private final int batchSize;
+
+    private final BlockingQueue<Submission> queue;
+
+    private final Cache<Long, OrderIntakeResponse> statuses;
+
+    private final ExecutorService consumers;
+
+    private final int consumerCount;
+
+    private volatile boolean running = true;
+
+    OrderIntake(OrderSequencer orderSequencer, OrderIdAllocator orderIdAllocator, OrderRepository orderRepository,
+                OrderHistoryRepository orderHistoryRepository, CustomerService customerService, Validator validator, @Value("${application.intake.capacity}") int capacity,
+                @Value("${application.intake.consumers}") int consumerCount, @Value("${application.intake.batch-size}") int batchSize,
+                @Value("${application.intake.status-cache-size}") long statusCacheSize, MeterRegistry meterRegistry) {
+
+        this.orderSequencer = orderSequencer;
+        this.orderIdAllocator = orderIdAllocator;
+        this.orderRepository = orderRepository;
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.customerService = customerService;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder().maximumSize(statusCacheSize).build();
+        this.consumerCount = consumerCount;
+        this.consumers = Executors.newFixedThreadPool(consumerCount, Thread.ofPlatform().name("order-intake-", 0).factory());
+        Gauge.builder("brokerage.intake.queue", queue, Collection::size)
+             .description("Orders accepted and waiting to be created")
+             .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        for (int i = 0; i < consumerCount; i++) {
+            consumers.execute(this::consume);
+        }
+    }
+
+    /**
+     * Validates the order and queues it for creation.
+     *
+     * @return the queued order, with the id it will be created with.
+     * @throws TooManyRequestsException if the queue is full.
+     */
+    OrderIntakeResponse submit(OrderCreateRequest request) throws BaseException {
+
+        Set<ConstraintViolation<OrderCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        if (TRY_ASSET.equals(request.getAssetName()) && request.getPrice().compareTo(BigDecimal.ONE) != 0) {
+            throw new BusinessException(ExceptionConstants.TRY_ORDER_PRICE_MUST_BE_ONE);
+        }
+
+        if (!OrderService.hasValidExpiry(request)) {
+            throw new BusinessException(ExceptionConstants.INVALID_EXPIRY);
+        }
+
+        if (!customerService.customerExists(request.getCustomerId())) {
+            throw new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND);
+        }
+
+        long orderId = orderIdAllocator.nextId();
+        OrderIntakeResponse response = toResponse(orderId, request.getCustomerId(), OrderIntakeStatus.QUEUED, null, null);
+        // the status is recorded before queueing, so that a consumer can not overwrite the outcome with it
+        statuses.put(orderId, response);
+        if (!queue.offer(new Submission(orderId, request))) {
+            statuses.invalidate(orderId);
+            throw new TooManyRequestsException(ExceptionConstants.ORDER_INTAKE_FULL);
+        }
+        return response;
+    }
+
+    /**
+     * Returns the status of a submitted order. An order whose status is no longer cached is looked up in the order table, or in
+     * the order history view once it is archived.
+     */
+    OrderIntakeResponse getStatus(Long orderId) throws RecordNotFoundException {
+
+        OrderIntakeResponse response = statuses.getIfPresent(orderId);
+        if (response != null) {
+            return response;
+        }
+        Optional<OrderResponse> order = orderRepository.findById(orderId)
+                                                       .map(orderEntity -> OrderMapper.INSTANCE.toResponse(orderEntity, null))
+                                                       .or(() -> orderHistoryRepository.findById(orderId)
+                                                                                       .map(OrderMapper.INSTANCE::toResponse));
+        return order.map(created -> toResponse(orderId, created.getCustomerId(), OrderIntakeStatus.CREATED, created, null))
+                    .orElseThrow(() -> new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        running = false;
+        consumers.shutdown();
+        consumers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void consume() {
+
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    create(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void create(List<Submission> batch) {
+
+        Map<UUID, List<Submission>> customerBatches = new LinkedHashMap<>();
+        for (Submission submission : batch) {
+            customerBatches.computeIfAbsent(submission.getRequest().getCustomerId(), customerId -> new ArrayList<>())
+                           .add(submission);
+        }
+
+        for (Map.Entry<UUID, List<Submission>> customerBatch : customerBatches.entrySet()) {
+            List<Submission> submissions = customerBatch.getValue();
+            try {
+                List<OrderBatchItemResponse> items =
+                    orderSequencer.createOrders(customerBatch.getKey(), submissions.stream().map(Submission::getRequest).toList(),
+                                                submissions.stream().map(Submission::getOrderId).toList());
+                for (int i = 0; i < submissions.size(); i++) {
+                    OrderBatchItemResponse item = items.get(i);
+                    complete(submissions.get(i), item.getOrder() == null ? OrderIntakeStatus.REJECTED : OrderIntakeStatus.CREATED,
+                             item.getOrder(), item.getError());
+                }
+            } catch (Exception e) {
+                log.error("Queued orders of customer {} could not be created", customerBatch.getKey(), e);
+                String error = e instanceof BaseException baseException ? baseException.getMessageKey() : UNKNOWN_ERROR;
+                submissions.forEach(submission -> complete(submission, OrderIntakeStatus.REJECTED, null, error));
+            }
+        }
+    }
+
+    private void complete(Submission submission, OrderIntakeStatus status, OrderResponse order, String error) {
+
+        statuses.put(submission.getOrderId(),
+                     toResponse(submission.getOrderId(), submission.getRequest().getCustomerId(), status, order, error));
+    }
+
+    private static OrderIntakeResponse toResponse(Long orderId, UUID customerId, OrderIntakeStatus status, OrderResponse order,
+                                                  String error) {
+
+        OrderIntakeResponse response = new OrderIntakeResponse();
+        response.setId(orderId);
+        response.setCustomerId(customerId);
+        response.setStatus(status);
+        response.setOrder(order);
+        response.setError(error);
+        return response;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Submission {
+
+        private final long orderId;
+
+        private final OrderCreateRequest request;
+    }
+}
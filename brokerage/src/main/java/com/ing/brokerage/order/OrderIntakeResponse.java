@@ -0,0 +1,20 @@
+package com.ing.brokerage.order;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class OrderIntakeResponse {
+
+    private Long id;
+
+    private UUID customerId;
+
+    private OrderIntakeStatus status;
+
+    private OrderResponse order;
+
+    private String error;
+}
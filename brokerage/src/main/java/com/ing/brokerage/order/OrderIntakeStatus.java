@@ -0,0 +1,8 @@
+package com.ing.brokerage.order;
+
+public enum OrderIntakeStatus {
+
+    QUEUED,
+    CREATED,
+    REJECTED
+}
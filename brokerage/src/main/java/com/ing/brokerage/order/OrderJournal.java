@@ -0,0 +1,342 @@
+package com.ing.brokerage.order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of order events, stored as binary records in memory-mapped segment files.
+ *
+ * <p>A segment starts with a {@value #HEADER_SIZE} byte header holding a magic number and the version of the record format, and
+ * is named after that version, {@code orders-v<version>-<index>.journal}. Every record is prefixed with its length and ends with
+ * a CRC32 of its length and content; the asset name is stored with its own length, so records are only as long as their asset
+ * name requires. Segments are pre-allocated, so the end of the journal is the first record which is empty or fails its
+ * checksum; a record torn by a crash is overwritten by the next append. A full segment is forced to disk and the next one is
+ * created.
+ *
+ * <p>Segments of any other format, and files named like segments without a valid header, fail the journal instead of being
+ * skipped.
+ *
+ * <p>Access is serialized by a {@link ReentrantLock} rather than a monitor, so that a virtual thread appending while another one
+ * forces a segment to disk waits without pinning its carrier thread.
+ */
+@Slf4j
+class OrderJournal implements Closeable {
+
+    static final int VERSION = 4;
+
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * "ORJN", distinguishes a segment header from a file which only happens to be named like a segment.
+     */
+    private static final int MAGIC = 0x4F524A4E;
+
+    private static final int ASSET_NAME_OFFSET = 88;
+
+    /**
+     * Asset names are stored in a column of 255 characters, which take up to four bytes each.
+     */
+    private static final int MAX_ASSET_NAME_LENGTH = 255 * 4;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("orders-v(\\d+)-(\\d{16})\\.journal");
+
+    private static final OrderEventType[] EVENT_TYPES = OrderEventType.values();
+
+    private static final OrderSide[] ORDER_SIDES = OrderSide.values();
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private static final TimeInForce[] TIMES_IN_FORCE = TimeInForce.values();
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final boolean sync;
+
+    private final ByteBuffer record = ByteBuffer.allocate(recordSize(MAX_ASSET_NAME_LENGTH));
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long segmentIndex;
+
+    private MappedByteBuffer segment;
+
+    OrderJournal(Path directory, long segmentSize, boolean sync) {
+
+        this.directory = directory;
+        this.segmentSize = (int) Math.min(segmentSize, Integer.MAX_VALUE);
+        this.sync = sync;
+        if (this.segmentSize < HEADER_SIZE + recordSize(0)) {
+            throw new IllegalArgumentException("Journal segment size must hold at least one record");
+        }
+
+        try {
+            Files.createDirectories(directory);
+            List<Segment> segments = segments();
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                openSegment(segments.getLast().index());
+                segment.position(findEnd(segment));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Size of a record of an asset name of the given length in bytes, including its length prefix and checksum.
+     */
+    static int recordSize(int assetNameLength) {
+
+        return Integer.BYTES + ASSET_NAME_OFFSET + assetNameLength + Integer.BYTES;
+    }
+
+    /**
+     * Writes the event at the end of the journal. The record reaches the page cache at once; it is forced to disk immediately
+     * only if the journal is synchronous, otherwise when its segment is full or the journal is closed.
+     */
+    void append(OrderEvent event) {
+
+        lock.lock();
+        try {
+            int recordSize = encode(event, record);
+            if (HEADER_SIZE + recordSize > segmentSize) {
+                throw new IllegalArgumentException("Order " + event.getId() + " does not fit into a journal segment");
+            }
+            if (segment.remaining() < recordSize) {
+                segment.force();
+                openSegment(segmentIndex + 1);
+            }
+
+            segment.put(record.slice(0, recordSize));
+            if (sync) {
+                segment.force(segment.position() - recordSize, recordSize);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the journaled events from the first segment on, in the order they were appended, and hands each one to the handler as
+     * soon as it is read.
+     */
+    <E extends Exception> void forEach(EventHandler<E> handler) throws E {
+
+        lock.lock();
+        try {
+            for (Segment journalSegment : segments()) {
+                try (FileChannel channel = FileChannel.open(journalSegment.path(), StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    forEach(journalSegment.path(), buffer, handler);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+
+        lock.lock();
+        try {
+            segment.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment(long index) {
+
+        Path path = directory.resolve(String.format("orders-v%d-%016d.journal", VERSION, index));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+            if (mapped.getInt(0) == 0) {
+                mapped.putInt(0, MAGIC).putInt(Integer.BYTES, VERSION);
+            } else {
+                checkHeader(path, mapped);
+            }
+            segment = mapped.position(HEADER_SIZE);
+            segmentIndex = index;
+            log.info("Order journal segment {} opened", path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lists the segments in index order.
+     *
+     * @throws IllegalStateException if a file is named like a segment of a format other than the current one.
+     */
+    private List<Segment> segments() throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Segment> segments = files.map(path -> {
+                                              Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                                              if (!matcher.matches()) {
+                                                  return null;
+                                              }
+                                              return new Segment(path, Integer.parseInt(matcher.group(1)),
+                                                                 Long.parseLong(matcher.group(2)));
+                                          })
+                                          .filter(segment -> segment != null)
+                                          .sorted(Comparator.comparingLong(Segment::index))
+                                          .toList();
+            for (Segment segment : segments) {
+                if (segment.version() != VERSION) {
+                    throw new IllegalStateException("Order journal segment " + segment.path() + " is in format " + segment.version()
+                                                    + ", which can not be read in the current format " + VERSION);
+                }
+            }
+            return segments;
+        }
+    }
+
+    private static void checkHeader(Path path, ByteBuffer buffer) {
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalStateException("Order journal segment " + path + " has no valid header of format " + VERSION);
+        }
+    }
+
+    private static <E extends Exception> void forEach(Path path, ByteBuffer buffer, EventHandler<E> handler) throws E {
+
+        checkHeader(path, buffer);
+        int end = findEnd(buffer);
+        for (int position = HEADER_SIZE; position < end; position += Integer.BYTES + buffer.getInt(position) + Integer.BYTES) {
+            handler.accept(decode(buffer.slice(position + Integer.BYTES, buffer.getInt(position))));
+        }
+    }
+
+    /**
+     * @return the position after the last valid record of a segment of the current format.
+     */
+    private static int findEnd(ByteBuffer buffer) {
+
+        int position = HEADER_SIZE;
+        while (position + Integer.BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length < ASSET_NAME_OFFSET || length > ASSET_NAME_OFFSET + MAX_ASSET_NAME_LENGTH
+                || position + Integer.BYTES + length + Integer.BYTES > buffer.limit()
+                || buffer.getInt(position + Integer.BYTES + length) != crc(buffer.slice(position, Integer.BYTES + length))) {
+                break;
+            }
+            position += Integer.BYTES + length + Integer.BYTES;
+        }
+        return position;
+    }
+
+    private static int crc(ByteBuffer content) {
+
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Encodes the event into the start of the buffer.
+     *
+     * @return the size of the record.
+     */
+    private static int encode(OrderEvent event, ByteBuffer record) {
+
+        byte[] assetName = event.getAssetName().getBytes(StandardCharsets.UTF_8);
+        if (assetName.length > MAX_ASSET_NAME_LENGTH) {
+            throw new IllegalArgumentException("Asset name " + event.getAssetName() + " is too long to be journaled");
+        }
+        Instant createdAt = event.getCreatedAt().toInstant();
+        Instant expiresAt = event.getExpiresAt() == null ? Instant.EPOCH : event.getExpiresAt().toInstant();
+        int length = ASSET_NAME_OFFSET + assetName.length;
+
+        ByteBuffer content = record.clear().slice(Integer.BYTES, length);
+        content.put(0, (byte) (event.getEventType().ordinal() + 1))
+               .put(1, (byte) event.getOrderSide().ordinal())
+               .put(2, (byte) event.getOrderStatus().ordinal())
+               .put(3, (byte) (event.getTimeInForce() == null ? 0 : event.getTimeInForce().ordinal() + 1))
+               .put(4, (byte) (event.getExpiresAt() == null ? 0 : 1))
+               .put(5, (byte) (event.getFillPrice() == null ? 0 : 1))
+               .putShort(6, (short) assetName.length)
+               .putLong(8, event.getId())
+               .putLong(16, event.getCustomerId().getMostSignificantBits())
+               .putLong(24, event.getCustomerId().getLeastSignificantBits())
+               .putLong(32, event.getSize())
+               .putLong(40, event.getPrice())
+               .putLong(48, createdAt.getEpochSecond())
+               .putInt(56, createdAt.getNano())
+               .putInt(60, expiresAt.getNano())
+               .putLong(64, expiresAt.getEpochSecond())
+               .putLong(72, event.getFilledSize())
+               .putLong(80, event.getFillPrice() == null ? 0 : event.getFillPrice())
+               .put(ASSET_NAME_OFFSET, assetName);
+        record.putInt(0, length);
+        record.putInt(Integer.BYTES + length, crc(record.slice(0, Integer.BYTES + length)));
+        return Integer.BYTES + length + Integer.BYTES;
+    }
+
+    private static OrderEvent decode(ByteBuffer content) {
+
+        byte[] assetName = new byte[content.getShort(6)];
+        content.get(ASSET_NAME_OFFSET, assetName);
+
+        OrderEvent event = new OrderEvent();
+        event.setEventType(EVENT_TYPES[content.get(0) - 1]);
+        event.setOrderSide(ORDER_SIDES[content.get(1)]);
+        event.setOrderStatus(ORDER_STATUSES[content.get(2)]);
+        if (content.get(3) != 0) {
+            event.setTimeInForce(TIMES_IN_FORCE[content.get(3) - 1]);
+        }
+        if (content.get(4) != 0) {
+            event.setExpiresAt(OffsetDateTime.ofInstant(Instant.ofEpochSecond(content.getLong(64), content.getInt(60)), ZoneOffset.UTC));
+        }
+        event.setId(content.getLong(8));
+        event.setCustomerId(new UUID(content.getLong(16), content.getLong(24)));
+        event.setSize(content.getLong(32));
+        event.setPrice(content.getLong(40));
+        event.setCreatedAt(OffsetDateTime.ofInstant(Instant.ofEpochSecond(content.getLong(48), content.getInt(56)), ZoneOffset.UTC));
+        event.setFilledSize(content.getLong(72));
+        if (content.get(5) != 0) {
+            event.setFillPrice(content.getLong(80));
+        }
+        event.setAssetName(new String(assetName, StandardCharsets.UTF_8));
+        return event;
+    }
+
+    /**
+     * Handles the journaled events read by {@link #forEach(EventHandler)}.
+     */
+    @FunctionalInterface
+    interface EventHandler<E extends Exception> {
+
+        void accept(OrderEvent event) throws E;
+    }
+
+    private record Segment(Path path, int version, long index) {
+    }
+}
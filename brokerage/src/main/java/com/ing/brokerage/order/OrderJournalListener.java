@@ -0,0 +1,108 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.exception.BaseException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes every order transition to the {@link OrderJournal} before its transaction commits, and rebuilds order and asset state
+ * from the journal when the application starts with empty order and order archive tables.
+ *
+ * <p>The journal is written ahead of the database: a transition is appended while its transaction is committing, and a failed
+ * append rolls the transaction back, so that no committed transition is missing from the journal. A synchronous journal forces
+ * the record to disk before the commit, otherwise it reaches the page cache and survives a crash of the application. A
+ * transaction whose commit fails after its transitions were appended leaves them in the journal.
+ *
+ * <p>The replay starts with the application, while requests may already arrive, so each event is applied through the
+ * {@link OrderSequencer} on the lane of its customer like any other order transition.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.journal", name = "enabled", havingValue = "true")
+class OrderJournalListener implements InitializingBean, DisposableBean {
+
+    private static final String SELECT_ANY_ARCHIVED = "select exists (select 1 from stock_order_archive)";
+
+    private final OrderRepository orderRepository;
+
+    private final OrderSequencer orderSequencer;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${application.journal.directory}")
+    private Path directory;
+
+    @Value("${application.journal.segment-size}")
+    private long segmentSize;
+
+    @Value("${application.journal.sync}")
+    private boolean sync;
+
+    @Value("${application.journal.replay-on-startup}")
+    private boolean replayOnStartup;
+
+    private OrderJournal journal;
+
+    @Override
+    public void afterPropertiesSet() {
+
+        journal = new OrderJournal(directory, segmentSize, sync);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+
+        journal.append(event);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void replayOnStartup() throws BaseException {
+
+        if (!replayOnStartup) {
+            return;
+        }
+        if (orderRepository.count() > 0 || Boolean.TRUE.equals(jdbcTemplate.queryForObject(SELECT_ANY_ARCHIVED, Boolean.class))) {
+            log.info("Order journal is not replayed, orders already exist");
+            return;
+        }
+        replay();
+    }
+
+    /**
+     * Replays the whole journal into the order and asset tables, applying each event as it is read, and moves the order id sequence
+     * past the replayed ids.
+     */
+    void replay() throws BaseException {
+
+        AtomicLong events = new AtomicLong();
+        journal.forEach(event -> {
+            orderSequencer.replay(event);
+            events.incrementAndGet();
+        });
+
+        Long maxId = orderRepository.findMaxId();
+        if (maxId != null) {
+            jdbcTemplate.execute("alter sequence stock_order_id_seq restart with " + (maxId + OrderEntity.ID_ALLOCATION_SIZE));
+        }
+        log.info("Order journal replayed, {} events applied", events.get());
+    }
+
+    @Override
+    public void destroy() {
+
+        journal.close();
+    }
+}
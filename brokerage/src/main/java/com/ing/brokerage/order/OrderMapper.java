@@ -2,16 +2,19 @@ package com.ing.brokerage.order;
 
 import com.ing.brokerage.asset.AssetResponse;
 import com.ing.brokerage.asset.AssetTradeRequest;
+import com.ing.brokerage.base.decimal.FixedPointMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+@Mapper(uses = FixedPointMapper.class)
 interface OrderMapper {
 
     OrderMapper INSTANCE = Mappers.getMapper(OrderMapper.class);
 
     @Mapping(target = "orderStatus", constant = "PENDING")
+    @Mapping(target = "timeInForce", defaultValue = "GTC")
+    @Mapping(target = "filledSize", ignore = true)
     OrderEntity toEntity(OrderCreateRequest request);
 
     @Mapping(target = "assetSize", source = "asset.size")
@@ -22,5 +25,19 @@ interface OrderMapper {
     @Mapping(target = "customerId", source = "entity.customerId")
     OrderResponse toResponse(OrderEntity entity, AssetResponse asset);
 
-    AssetTradeRequest toRequest(OrderCreateRequest request);
+    @Mapping(target = "assetSize", ignore = true)
+    @Mapping(target = "assetUsableSize", ignore = true)
+    OrderResponse toResponse(OrderEvent event);
+
+    @Mapping(target = "assetSize", ignore = true)
+    @Mapping(target = "assetUsableSize", ignore = true)
+    OrderResponse toResponse(OrderHistoryEntity entity);
+
+    @Mapping(target = "amount", ignore = true)
+    AssetTradeRequest toTradeRequest(OrderEntity entity);
+
+    @Mapping(target = "fillPrice", ignore = true)
+    OrderEvent toEvent(OrderEntity entity, OrderEventType eventType);
+
+    OrderFillResponse toFillResponse(OrderFillEntity entity);
 }
@@ -0,0 +1,196 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.exception.BaseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Continuous matching engine keeping an in-memory {@link OrderBook} of the open orders per asset name.
+ *
+ * <p>Books are owned by a single matcher thread. Committed order events are handed over to that thread, which crosses newly
+ * created orders against the book and settles every fill through {@link OrderSequencer#matchOrders(Long, Long)} at the price of
+ * the resting order. Partially filled orders stay in the book with their unfilled size. TRY orders are deposits and withdrawals,
+ * they are never booked.
+ *
+ * <p>Orders which fail to settle are left for manual matching and kept out of the book, which is then reloaded from the order
+ * table; at most {@code application.matching.max-unmatchable-orders} of them are remembered, the oldest are crossed again on the
+ * next reload. A book whose reloads keep failing to settle is given up after {@value #MAX_RELOADS} reloads in a row, and its
+ * asset is not matched again until the books are loaded the next time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.matching", name = "enabled", havingValue = "true")
+class OrderMatchingEngine implements DisposableBean {
+
+    private static final int MAX_RELOADS = 10;
+
+    private final OrderRepository orderRepository;
+
+    private final OrderSequencer orderSequencer;
+
+    private final RejectionMetrics rejectionMetrics;
+
+    private final ExecutorService matcher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("order-matcher").factory());
+
+    private final Map<String, OrderBook> books = new HashMap<>();
+
+    private final Set<Long> unmatchableOrders = new LinkedHashSet<>();
+
+    private final Set<String> haltedAssets = new HashSet<>();
+
+    @Value("${application.matching.max-unmatchable-orders}")
+    private int maxUnmatchableOrders;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBooks() {
+
+        matcher.execute(() -> {
+            books.clear();
+            haltedAssets.clear();
+            orderRepository.findAllByOrderStatusIn(OrderStatus.OPEN).stream()
+                           .sorted(OrderService.ARRIVAL_ORDER)
+                           .forEach(this::book);
+            log.info("Order books loaded for {} assets", books.size());
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+
+        if (TRY_ASSET.equals(event.getAssetName())) {
+            return;
+        }
+        matcher.execute(() -> handle(event));
+    }
+
+    private void handle(OrderEvent event) {
+
+        if (OrderStatus.PENDING.equals(event.getOrderStatus())) {
+            book(event.getAssetName(), OrderBook.BookOrder.of(event));
+            return;
+        }
+
+        OrderBook book = books.get(event.getAssetName());
+        if (OrderStatus.PARTIALLY_FILLED.equals(event.getOrderStatus())) {
+            if (book != null) {
+                book.reduce(event.getId(), event.getSize() - event.getFilledSize());
+            }
+            return;
+        }
+
+        unmatchableOrders.remove(event.getId());
+        if (book != null) {
+            book.remove(event.getId());
+        }
+    }
+
+    private void book(OrderEntity entity) {
+
+        if (!TRY_ASSET.equals(entity.getAssetName())) {
+            book(entity.getAssetName(), OrderBook.BookOrder.of(entity));
+        }
+    }
+
+    private void book(String assetName, OrderBook.BookOrder order) {
+
+        if (!haltedAssets.contains(assetName) && !cross(assetName, order)) {
+            reloadBook(assetName);
+        }
+    }
+
+    /**
+     * Books the order and settles its fills, unless it is unmatchable.
+     *
+     * @return false if a fill failed to settle, the remaining fills are not settled and the book has to be reloaded.
+     */
+    private boolean cross(String assetName, OrderBook.BookOrder order) {
+
+        if (unmatchableOrders.contains(order.getId())) {
+            return true;
+        }
+        for (OrderBook.Match match : books.computeIfAbsent(assetName, OrderBook::new).add(order)) {
+            if (!settle(match)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean settle(OrderBook.Match match) {
+
+        try {
+            orderSequencer.matchOrders(match.getBuyOrderId(), match.getSellOrderId());
+            return true;
+        } catch (BaseException | RuntimeException e) {
+            if (e instanceof BaseException baseException) {
+                rejectionMetrics.increment(baseException.getMessageKey());
+            }
+            log.warn("Orders {} and {} could not be matched, they are left for manual matching", match.getBuyOrderId(),
+                     match.getSellOrderId(), e);
+            markUnmatchable(match.getBuyOrderId());
+            markUnmatchable(match.getSellOrderId());
+            return false;
+        }
+    }
+
+    private void markUnmatchable(Long orderId) {
+
+        unmatchableOrders.add(orderId);
+        if (unmatchableOrders.size() > maxUnmatchableOrders) {
+            Iterator<Long> oldest = unmatchableOrders.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * Loads the book again from the open orders in the order table and crosses them in arrival order, as long as a fill fails to
+     * settle and at most {@value #MAX_RELOADS} times.
+     */
+    private void reloadBook(String assetName) {
+
+        for (int reload = 0; reload < MAX_RELOADS; reload++) {
+            books.remove(assetName);
+            if (orderRepository.findAllByAssetNameAndOrderStatusIn(assetName, OrderStatus.OPEN).stream()
+                               .sorted(OrderService.ARRIVAL_ORDER)
+                               .allMatch(orderEntity -> cross(assetName, OrderBook.BookOrder.of(orderEntity)))) {
+                return;
+            }
+        }
+
+        books.remove(assetName);
+        haltedAssets.add(assetName);
+        log.error("Order book of {} could not be settled after {} reloads, the asset is not matched until the books are loaded "
+                  + "again", assetName, MAX_RELOADS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        matcher.shutdown();
+        if (!matcher.awaitTermination(10, TimeUnit.SECONDS)) {
+            matcher.shutdownNow();
+        }
+    }
+}
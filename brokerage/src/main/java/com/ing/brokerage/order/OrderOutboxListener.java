@@ -0,0 +1,27 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.outbox.Outbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Records every order transition in the {@link Outbox} before its transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.outbox", name = "enabled", havingValue = "true")
+class OrderOutboxListener {
+
+    static final String AGGREGATE_TYPE = "ORDER";
+
+    private final Outbox outbox;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+
+        outbox.add(AGGREGATE_TYPE, event.getId(), event.getEventType().name(), OrderMapper.INSTANCE.toResponse(event));
+    }
+}
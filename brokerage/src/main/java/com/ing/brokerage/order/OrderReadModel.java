@@ -0,0 +1,267 @@
+package com.ing.brokerage.order;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory projection of the order table serving order searches, so that history reads do not compete with order entry for
+ * rows and connections. Orders are kept per customer, sorted by creation time and id; the projection is loaded from the order
+ * table once the application is ready and is then kept up to date by the committed order events. Archived orders are removed
+ * from it by the {@link OrderArchiver}; an order archived while the projection is loaded is not added by the load.
+ *
+ * <p>A search is only answered once the projection is loaded, and only if it is sorted by known order attributes; otherwise
+ * {@link #list} returns nothing and the caller queries the database. Each customer has a lock of its own, held for the update
+ * of a single order or for copying out the orders of a search.
+ */
+@Slf4j
+@Component
+class OrderReadModel {
+
+    private static final Comparator<OrderKey> KEY_ORDER =
+        Comparator.comparing(OrderKey::createdAt, OffsetDateTime.timeLineOrder()).thenComparingLong(OrderKey::id);
+
+    private static final Map<String, Comparator<Map.Entry<OrderKey, OrderResponse>>> SORT_PROPERTIES = Map.ofEntries(
+        Map.entry("id", Comparator.comparing(entry -> entry.getKey().id())),
+        Map.entry("createdAt", Map.Entry.comparingByKey(KEY_ORDER)),
+        Map.entry("customerId", byResponse(OrderResponse::getCustomerId)),
+        Map.entry("assetName", byResponse(OrderResponse::getAssetName)),
+        Map.entry("orderSide", byResponse(OrderResponse::getOrderSide)),
+        Map.entry("size", byResponse(OrderResponse::getSize)),
+        Map.entry("price", byResponse(OrderResponse::getPrice)),
+        Map.entry("filledSize", byResponse(OrderResponse::getFilledSize)),
+        Map.entry("orderStatus", byResponse(OrderResponse::getOrderStatus)),
+        Map.entry("timeInForce", byResponse(OrderResponse::getTimeInForce)),
+        Map.entry("expiresAt", byResponse(OrderResponse::getExpiresAt))
+    );
+
+    private final OrderRepository orderRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final int fetchSize;
+
+    private final Map<UUID, CustomerOrders> customers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Ids of the orders removed since the load started, which the load may still read from a cursor opened before their removal.
+     */
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+
+    private volatile boolean ready;
+
+    OrderReadModel(OrderRepository orderRepository, PlatformTransactionManager transactionManager,
+                   @Value("${application.read-model.enabled}") boolean enabled,
+                   @Value("${application.read-model.fetch-size}") int fetchSize, MeterRegistry meterRegistry) {
+
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+        Gauge.builder("brokerage.order.read-model.orders", size, AtomicInteger::get)
+             .description("Orders held in the order read model")
+             .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        if (enabled) {
+            Thread.ofPlatform().name("order-read-model").start(this::load);
+        }
+    }
+
+    /**
+     * Adds every order of the order table which has not been added by an event meanwhile, then starts answering searches.
+     */
+    void load() {
+
+        loading = true;
+        try {
+            Specification<OrderEntity> all = (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+            transactionTemplate.executeWithoutResult(status -> orderRepository.forEach(
+                OrderEntity.class, all, Sort.by("createdAt", "id"), fetchSize,
+                orderEntity -> put(orderEntity.getCustomerId(), orderEntity.getId(), orderEntity.getCreatedAt(),
+                                   OrderMapper.INSTANCE.toResponse(orderEntity, null), false)));
+            ready = true;
+            log.info("Order read model loaded {} orders of {} customers", size.get(), customers.size());
+        } catch (Exception e) {
+            log.error("Order read model could not be loaded, orders are searched in the database", e);
+        } finally {
+            loading = false;
+            removedIds.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+
+        if (enabled) {
+            put(event.getCustomerId(), event.getId(), event.getCreatedAt(), OrderMapper.INSTANCE.toResponse(event), true);
+        }
+    }
+
+    void remove(UUID customerId, Long orderId) {
+
+        // recorded before taking the customer lock, a load adding the order afterwards sees it under the same lock
+        if (loading) {
+            removedIds.add(orderId);
+        }
+        CustomerOrders customerOrders = customers.get(customerId);
+        if (customerOrders == null) {
+            return;
+        }
+        customerOrders.lock.lock();
+        try {
+            OrderKey key = customerOrders.keys.remove(orderId);
+            if (key != null) {
+                customerOrders.orders.remove(key);
+                size.decrementAndGet();
+            }
+        } finally {
+            customerOrders.lock.unlock();
+        }
+    }
+
+    /**
+     * Searches the orders of the customer created in the given range.
+     *
+     * @return the requested page of the matching orders, or nothing if the search has to be answered by the database.
+     */
+    Optional<Page<OrderResponse>> list(OrderSearchRequest searchRequest, OffsetDateTime startDate, Pageable pageable) {
+
+        if (!ready) {
+            return Optional.empty();
+        }
+        Comparator<Map.Entry<OrderKey, OrderResponse>> comparator = toComparator(pageable.getSort());
+        if (comparator == null) {
+            return Optional.empty();
+        }
+
+        List<Map.Entry<OrderKey, OrderResponse>> matching = new ArrayList<>();
+        CustomerOrders customerOrders = customers.get(searchRequest.getCustomerId());
+        if (customerOrders != null) {
+            customerOrders.lock.lock();
+            try {
+                OrderKey from = new OrderKey(startDate, Long.MIN_VALUE);
+                OrderKey to = new OrderKey(startDate.plusDays(searchRequest.getDateRange()), Long.MAX_VALUE);
+                for (Map.Entry<OrderKey, OrderResponse> entry : customerOrders.orders.subMap(from, true, to, true).entrySet()) {
+                    if (matches(searchRequest, entry.getValue())) {
+                        matching.add(entry);
+                    }
+                }
+            } finally {
+                customerOrders.lock.unlock();
+            }
+        }
+
+        matching.sort(comparator);
+        List<OrderResponse> content = matching.stream()
+                                              .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                                              .limit(pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE)
+                                              .map(Map.Entry::getValue)
+                                              .toList();
+        return Optional.of(new PageImpl<>(content, pageable, matching.size()));
+    }
+
+    private void put(UUID customerId, Long orderId, OffsetDateTime createdAt, OrderResponse response, boolean replace) {
+
+        CustomerOrders customerOrders = customers.computeIfAbsent(customerId, id -> new CustomerOrders());
+        customerOrders.lock.lock();
+        try {
+            OrderKey key = customerOrders.keys.get(orderId);
+            if (key == null) {
+                if (!replace && removedIds.contains(orderId)) {
+                    return;
+                }
+                key = new OrderKey(createdAt, orderId);
+                customerOrders.keys.put(orderId, key);
+                size.incrementAndGet();
+            } else if (!replace) {
+                return;
+            }
+            customerOrders.orders.put(key, response);
+        } finally {
+            customerOrders.lock.unlock();
+        }
+    }
+
+    private static boolean matches(OrderSearchRequest searchRequest, OrderResponse order) {
+
+        return (searchRequest.getOrderSide() == null || searchRequest.getOrderSide().equals(order.getOrderSide()))
+               && (searchRequest.getOrderStatus() == null || searchRequest.getOrderStatus().equals(order.getOrderStatus()))
+               && (searchRequest.getAssetName() == null || searchRequest.getAssetName().equals(order.getAssetName()));
+    }
+
+    /**
+     * Builds the comparator of the sort, null values first in ascending order as in the database. Orders which compare equal
+     * stay in creation order.
+     *
+     * @return the comparator, or null if the sort has a property which is not an order attribute.
+     */
+    private static Comparator<Map.Entry<OrderKey, OrderResponse>> toComparator(Sort sort) {
+
+        Comparator<Map.Entry<OrderKey, OrderResponse>> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Map.Entry<OrderKey, OrderResponse>> property = SORT_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                return null;
+            }
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator;
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Map.Entry<OrderKey, OrderResponse>> byResponse(
+        Function<OrderResponse, T> attribute) {
+
+        return Comparator.comparing(entry -> attribute.apply(entry.getValue()), Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private record OrderKey(OffsetDateTime createdAt, long id) {
+    }
+
+    private static final class CustomerOrders {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Map<Long, OrderKey> keys = new HashMap<>();
+
+        private final NavigableMap<OrderKey, OrderResponse> orders = new TreeMap<>(KEY_ORDER);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ing.brokerage.order;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Order columns read the same way from the order table and from the order history view, so that scrolling and exporting do not
+ * depend on where the order is stored.
+ */
+interface OrderRecord {
+
+    Long getId();
+
+    UUID getCustomerId();
+
+    String getAssetName();
+
+    OrderSide getOrderSide();
+
+    long getSize();
+
+    long getPrice();
+
+    OrderStatus getOrderStatus();
+
+    OffsetDateTime getCreatedAt();
+}
@@ -0,0 +1,40 @@
+package com.ing.brokerage.order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface OrderRepository extends JpaRepository<OrderEntity, Long>, JpaSpecificationExecutor<OrderEntity>, OrderExportRepository {
+
+    List<OrderEntity> findAllByOrderStatusIn(Collection<OrderStatus> orderStatuses);
+
+    List<OrderEntity> findAllByAssetNameAndOrderStatusIn(String assetName, Collection<OrderStatus> orderStatuses);
+
+    @Query("select max(o.id) from stock_order o")
+    Long findMaxId();
+
+    @Query("select o.customerId from stock_order o where o.id = :id")
+    Optional<UUID> findCustomerIdById(@Param("id") Long id);
+
+    @Query("select distinct o.customerId from stock_order o where o.id in :ids and o.orderStatus in :orderStatuses")
+    List<UUID> findCustomerIdsByIdInAndOrderStatusIn(@Param("ids") Collection<Long> ids,
+                                                     @Param("orderStatuses") Collection<OrderStatus> orderStatuses);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into stock_order (id, customer_id, asset_name, order_side_id, size, price, filled_size, order_status_id, "
+                   + "created_at, update_version, time_in_force_id, expires_at) values (:#{#event.id}, :#{#event.customerId}, "
+                   + ":#{#event.assetName}, :#{#event.orderSide.id}, :#{T(com.ing.brokerage.base.decimal.FixedPoint).toDecimal(#event.size)}, "
+                   + ":#{T(com.ing.brokerage.base.decimal.FixedPoint).toDecimal(#event.price)}, "
+                   + ":#{T(com.ing.brokerage.base.decimal.FixedPoint).toDecimal(#event.filledSize)}, :#{#event.orderStatus.id}, "
+                   + ":#{#event.createdAt}, 0, :#{#event.timeInForce == null ? 1 : #event.timeInForce.id}, :#{#event.expiresAt})",
+           nativeQuery = true)
+    void insert(@Param("event") OrderEvent event);
+}
@@ -1,6 +1,7 @@
 package com.ing.brokerage.order;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,8 +22,14 @@ public class OrderResponse {
 
     private BigDecimal price;
 
+    private BigDecimal filledSize;
+
     private OrderStatus orderStatus;
 
+    private TimeInForce timeInForce;
+
+    private OffsetDateTime expiresAt;
+
     private BigDecimal assetSize;
 
     private BigDecimal assetUsableSize;
@@ -0,0 +1,110 @@
+package com.ing.brokerage.order;
+
+import com.ing.brokerage.base.sequencer.CustomerSequencer;
+import com.ing.brokerage.exception.BaseException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the mutating {@link OrderService} operations on the {@link CustomerSequencer} lanes of the customers they affect, each in
+ * a transaction of its own. Asset rows are only updated by these operations, so they are read without database locks.
+ */
+@Component
+@RequiredArgsConstructor
+class OrderSequencer {
+
+    private final CustomerSequencer customerSequencer;
+
+    private final OrderService orderService;
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * Creates the order, or returns the order created earlier with the idempotency key if one is given. Both run on the lane of
+     * the customer, so retries of the same key can not race each other.
+     */
+    OrderResponse createOrder(OrderCreateRequest request, String idempotencyKey) throws BaseException {
+
+        if (idempotencyKey == null) {
+            return customerSequencer.execute(request.getCustomerId(), () -> orderService.createOrder(request));
+        }
+        return customerSequencer.execute(request.getCustomerId(), () -> orderService.createOrder(request, idempotencyKey));
+    }
+
+    List<OrderBatchItemResponse> createOrders(OrderBatchCreateRequest request) throws BaseException {
+
+        List<UUID> customerIds = request.getOrders() == null ? List.of() : request.getOrders().stream()
+                                                                                  .filter(Objects::nonNull)
+                                                                                  .map(OrderCreateRequest::getCustomerId)
+                                                                                  .filter(Objects::nonNull)
+                                                                                  .toList();
+        // an invalid batch is rejected by validation without touching any customer
+        if (customerIds.isEmpty()) {
+            return orderService.createOrders(request);
+        }
+        return customerSequencer.execute(customerIds, () -> orderService.createOrders(request));
+    }
+
+    /**
+     * Creates orders of a single customer under their reserved ids, in one transaction on the lane of the customer.
+     */
+    List<OrderBatchItemResponse> createOrders(UUID customerId, List<OrderCreateRequest> requests, List<Long> orderIds)
+        throws BaseException {
+
+        return customerSequencer.execute(customerId, () -> orderService.createOrders(requests, orderIds));
+    }
+
+    OrderResponse matchOrder(Long orderId, BigDecimal size) throws BaseException {
+
+        return customerSequencer.execute(getCustomerId(orderId), () -> orderService.matchOrder(orderId, size));
+    }
+
+    List<OrderResponse> matchOrders(Long buyOrderId, Long sellOrderId) throws BaseException {
+
+        return customerSequencer.execute(List.of(getCustomerId(buyOrderId), getCustomerId(sellOrderId)),
+                                         () -> orderService.matchOrders(buyOrderId, sellOrderId));
+    }
+
+    OrderResponse cancelOrder(Long orderId) throws BaseException {
+
+        return customerSequencer.execute(getCustomerId(orderId), () -> orderService.cancelOrder(orderId));
+    }
+
+    /**
+     * Expires the open orders among the given ones in one transaction, on the lanes of all their customers.
+     *
+     * @return the number of expired orders.
+     */
+    int expireOrders(List<Long> orderIds) throws BaseException {
+
+        List<UUID> customerIds = orderRepository.findCustomerIdsByIdInAndOrderStatusIn(orderIds, OrderStatus.OPEN);
+        if (customerIds.isEmpty()) {
+            return 0;
+        }
+        return customerSequencer.execute(customerIds, () -> orderService.expireOrders(orderIds));
+    }
+
+    /**
+     * Applies a journaled order transition on the lane of its customer, so that a replay running while the first requests arrive is
+     * ordered with them.
+     */
+    void replay(OrderEvent event) throws BaseException {
+
+        customerSequencer.execute(event.getCustomerId(), () -> {
+            orderService.replay(event);
+            return null;
+        });
+    }
+
+    private UUID getCustomerId(Long orderId) throws RecordNotFoundException {
+
+        return orderRepository.findCustomerIdById(orderId)
+                              .orElseThrow(() -> new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,669 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+
+import com.ing.brokerage.asset.AssetResponse;
+import com.ing.brokerage.asset.AssetService;
+import com.ing.brokerage.asset.AssetTradeRequest;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.outbox.Outbox;
+import com.ing.brokerage.base.pagination.CursorCodec;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class OrderService {
+
+    private final OrderRepository orderRepository;
+
+    private final OrderFillRepository orderFillRepository;
+
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    private final CustomerService customerService;
+
+    private final AssetService assetService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final RejectionMetrics rejectionMetrics;
+
+    private final OrderIdempotency orderIdempotency;
+
+    private final OrderReadModel orderReadModel;
+
+    private final Outbox outbox;
+
+    private static final String CREATED_AT = "createdAt";
+
+    private static final String ID = "id";
+
+    /**
+     * Latency of the public order operations, tagged with the method name by the timed aspect.
+     */
+    private static final String ORDER_SERVICE_TIMER = "brokerage.order.service";
+
+    /**
+     * Arrival order of orders, by creation time and then by id; the order which arrived first is the resting side of a match.
+     */
+    static final Comparator<OrderEntity> ARRIVAL_ORDER =
+        Comparator.comparing(OrderEntity::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                  .thenComparing(OrderEntity::getId);
+
+    private final OrderSpecification<OrderEntity> orderSpecification = new OrderSpecification<>();
+
+    private final OrderSpecification<OrderHistoryEntity> historySpecification = new OrderSpecification<>();
+
+    @Value("${application.export.fetch-size}")
+    private int exportFetchSize;
+
+    @Value("${application.expiry.zone}")
+    private ZoneId marketZone;
+
+    @Value("${application.archive.horizon}")
+    private Duration archiveHorizon;
+
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponse createOrder(@Valid OrderCreateRequest request) throws RecordNotFoundException, BusinessException {
+
+        return create(request);
+    }
+
+    /**
+     * Creates the order unless the customer already created one with the idempotency key, in which case that order is returned
+     * without locking any asset. The key is stored together with the created order.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponse createOrder(@Valid OrderCreateRequest request, String idempotencyKey)
+        throws RecordNotFoundException, BusinessException {
+
+        Optional<OrderResponse> created = orderIdempotency.find(request, idempotencyKey);
+        if (created.isPresent()) {
+            return created.get();
+        }
+
+        OrderResponse response = create(request);
+        orderIdempotency.save(idempotencyKey, response);
+        return response;
+    }
+
+    private OrderResponse create(OrderCreateRequest request) throws RecordNotFoundException, BusinessException {
+
+        if (TRY_ASSET.equals(request.getAssetName()) && request.getPrice().compareTo(BigDecimal.ONE) != 0) {
+            throw new BusinessException(ExceptionConstants.TRY_ORDER_PRICE_MUST_BE_ONE);
+        }
+
+        if (!hasValidExpiry(request)) {
+            throw new BusinessException(ExceptionConstants.INVALID_EXPIRY);
+        }
+
+        if (!customerService.customerExists(request.getCustomerId())) {
+            throw new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND);
+        }
+
+        AssetResponse asset = lock(request.getCustomerId(), request.getAssetName(), request.getOrderSide(),
+                                   FixedPoint.toScaled(request.getPrice()), FixedPoint.toScaled(request.getSize()));
+
+        OrderEntity orderEntity = orderRepository.save(toEntity(request));
+        eventPublisher.publishEvent(OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.CREATED));
+
+        return OrderMapper.INSTANCE.toResponse(orderEntity, asset);
+    }
+
+    /**
+     * Creates a batch of orders in a single transaction. Orders are grouped by customer and locked asset so that every asset row
+     * is locked once; the rows are locked in customer id and asset name order, the same order in every batch, so that concurrent
+     * batches can not deadlock. The accepted orders are inserted with JDBC batching. Each order gets its own result, an order which can
+     * not be created is reported with its error code without affecting the others.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public List<OrderBatchItemResponse> createOrders(@Valid OrderBatchCreateRequest batchRequest) {
+
+        return create(batchRequest.getOrders(), null);
+    }
+
+    /**
+     * Creates a batch of orders accepted by the {@link OrderIntake}, under the ids reserved for them when they were accepted.
+     * Orders are locked and reported the same way as a batch request.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    List<OrderBatchItemResponse> createOrders(List<@Valid OrderCreateRequest> requests, List<Long> orderIds) {
+
+        return create(requests, orderIds);
+    }
+
+    private List<OrderBatchItemResponse> create(List<OrderCreateRequest> requests, List<Long> orderIds) {
+
+        OrderBatchItemResponse[] items = new OrderBatchItemResponse[requests.size()];
+        AssetResponse[] assets = new AssetResponse[requests.size()];
+        Map<UUID, Boolean> existingCustomers = new HashMap<>();
+        Map<UUID, Map<String, List<Integer>>> lockGroups = new TreeMap<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            OrderCreateRequest request = requests.get(i);
+            if (TRY_ASSET.equals(request.getAssetName()) && request.getPrice().compareTo(BigDecimal.ONE) != 0) {
+                items[i] = toBatchItem(i, null, ExceptionConstants.TRY_ORDER_PRICE_MUST_BE_ONE);
+            } else if (!hasValidExpiry(request)) {
+                items[i] = toBatchItem(i, null, ExceptionConstants.INVALID_EXPIRY);
+            } else if (!existingCustomers.computeIfAbsent(request.getCustomerId(), customerService::customerExists)) {
+                items[i] = toBatchItem(i, null, ExceptionConstants.CUSTOMER_NOT_FOUND);
+            } else if (TRY_ASSET.equals(request.getAssetName())) {
+                acceptedIndexes.add(i);
+            } else {
+                lockGroups.computeIfAbsent(request.getCustomerId(), customerId -> new TreeMap<>())
+                          .computeIfAbsent(getLockedAssetName(request), assetName -> new ArrayList<>())
+                          .add(i);
+            }
+        }
+
+        for (Map.Entry<UUID, Map<String, List<Integer>>> customerGroup : lockGroups.entrySet()) {
+            for (Map.Entry<String, List<Integer>> assetGroup : customerGroup.getValue().entrySet()) {
+                List<Integer> indexes = assetGroup.getValue();
+                List<Optional<AssetResponse>> locks =
+                    assetService.lockAssets(customerGroup.getKey(), assetGroup.getKey(),
+                                            indexes.stream().map(i -> getLockedSize(requests.get(i))).toList());
+                for (int j = 0; j < indexes.size(); j++) {
+                    int index = indexes.get(j);
+                    if (locks.get(j).isPresent()) {
+                        assets[index] = locks.get(j).get();
+                        acceptedIndexes.add(index);
+                    } else {
+                        items[index] = toBatchItem(index, null, ExceptionConstants.INSUFFICIENT_ASSET);
+                    }
+                }
+            }
+        }
+
+        acceptedIndexes.sort(null);
+        List<OrderEntity> orderEntities = orderIds == null
+            ? orderRepository.saveAll(acceptedIndexes.stream().map(i -> toEntity(requests.get(i))).toList())
+            : insert(requests, orderIds, acceptedIndexes);
+
+        for (int j = 0; j < acceptedIndexes.size(); j++) {
+            int index = acceptedIndexes.get(j);
+            OrderEntity orderEntity = orderEntities.get(j);
+            eventPublisher.publishEvent(OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.CREATED));
+            items[index] = toBatchItem(index, OrderMapper.INSTANCE.toResponse(orderEntity, assets[index]), null);
+        }
+        return Arrays.asList(items);
+    }
+
+    /**
+     * Inserts the orders with their reserved ids. The ids are assigned outside of Hibernate, so the rows are written the same
+     * way as replayed orders.
+     */
+    private List<OrderEntity> insert(List<OrderCreateRequest> requests, List<Long> orderIds, List<Integer> indexes) {
+
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OrderEntity> orderEntities = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            OrderEntity orderEntity = toEntity(requests.get(index));
+            orderEntity.setId(orderIds.get(index));
+            orderEntity.setCreatedAt(createdAt);
+            orderEntity.setUpdateVersion(0);
+            orderRepository.insert(OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.CREATED));
+            orderEntities.add(orderEntity);
+        }
+        return orderEntities;
+    }
+
+    /**
+     * Only GTD orders carry an expiry time, which must be in the future.
+     */
+    static boolean hasValidExpiry(OrderCreateRequest request) {
+
+        if (TimeInForce.GTD.equals(request.getTimeInForce())) {
+            return request.getExpiresAt() != null && request.getExpiresAt().isAfter(OffsetDateTime.now());
+        }
+        return request.getExpiresAt() == null;
+    }
+
+    /**
+     * Maps the request to a pending order. DAY orders expire at the start of the next day in the market time zone.
+     */
+    private OrderEntity toEntity(OrderCreateRequest request) {
+
+        OrderEntity orderEntity = OrderMapper.INSTANCE.toEntity(request);
+        if (TimeInForce.DAY.equals(orderEntity.getTimeInForce())) {
+            orderEntity.setExpiresAt(LocalDate.now(marketZone).plusDays(1).atStartOfDay(marketZone).toOffsetDateTime());
+        }
+        return orderEntity;
+    }
+
+    private AssetResponse lock(UUID customerId, String assetName, OrderSide orderSide, long price, long size)
+        throws BusinessException {
+
+        if (TRY_ASSET.equals(assetName)) {
+            return null;
+        }
+        return assetService.lockAsset(customerId, getLockedAssetName(orderSide, assetName), getLockedSize(orderSide, price, size));
+    }
+
+    private static String getLockedAssetName(OrderCreateRequest request) {
+
+        return getLockedAssetName(request.getOrderSide(), request.getAssetName());
+    }
+
+    private static String getLockedAssetName(OrderSide orderSide, String assetName) {
+
+        return OrderSide.BUY.equals(orderSide) ? TRY_ASSET : assetName;
+    }
+
+    private static long getLockedSize(OrderCreateRequest request) {
+
+        return getLockedSize(request.getOrderSide(), FixedPoint.toScaled(request.getPrice()), FixedPoint.toScaled(request.getSize()));
+    }
+
+    private static long getLockedSize(OrderSide orderSide, long price, long size) {
+
+        return OrderSide.BUY.equals(orderSide) ? FixedPoint.multiply(price, size) : size;
+    }
+
+    private OrderBatchItemResponse toBatchItem(int index, OrderResponse order, String error) {
+
+        if (error != null) {
+            rejectionMetrics.increment(error);
+        }
+
+        OrderBatchItemResponse item = new OrderBatchItemResponse();
+        item.setIndex(index);
+        item.setOrder(order);
+        item.setError(error);
+        return item;
+    }
+
+    /**
+     * Lists orders from the order read model, or from the order history view including the archived orders if the searched
+     * range starts before the archive horizon. Searches the read model can not answer are run on the order table.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    public Page<OrderResponse> listOrders(@Valid OrderSearchRequest searchRequest, Pageable pageable) {
+
+        OffsetDateTime startDate = getStartDate(searchRequest);
+        if (isBeforeArchiveHorizon(startDate)) {
+            return orderHistoryRepository.findAll(generateSearchParametersAsSpecification(historySpecification, searchRequest), pageable)
+                                         .map(OrderMapper.INSTANCE::toResponse);
+        }
+
+        Optional<Page<OrderResponse>> page = orderReadModel.list(searchRequest, startDate, pageable);
+        if (page.isPresent()) {
+            return page.get();
+        }
+
+        Specification<OrderEntity> spc = generateSearchParametersAsSpecification(orderSpecification, searchRequest);
+        return orderRepository.findAll(spc, pageable)
+                              .map(order -> OrderMapper.INSTANCE.toResponse(order, null));
+    }
+
+    /**
+     * Lists orders with keyset pagination, seeking on (createdAt, id) after the given cursor without counting the matching rows.
+     * Like {@link #listOrders}, a range starting before the archive horizon is read from the order history view.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    public CursorPage<OrderResponse> scrollOrders(@Valid OrderSearchRequest searchRequest, @Valid CursorRequest cursorRequest)
+        throws BusinessException {
+
+        ScrollPosition position = ScrollPosition.keyset();
+        if (cursorRequest.getCursor() != null) {
+            Map<String, String> keys = CursorCodec.decode(cursorRequest.getCursor());
+            try {
+                position = ScrollPosition.forward(Map.of(CREATED_AT, OffsetDateTime.parse(keys.get(CREATED_AT)),
+                                                         ID, Long.valueOf(keys.get(ID))));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ExceptionConstants.INVALID_CURSOR);
+            }
+        }
+
+        if (isBeforeArchiveHorizon(getStartDate(searchRequest))) {
+            return scroll(orderHistoryRepository, generateSearchParametersAsSpecification(historySpecification, searchRequest),
+                          position, cursorRequest.getSize(), OrderMapper.INSTANCE::toResponse);
+        }
+        return scroll(orderRepository, generateSearchParametersAsSpecification(orderSpecification, searchRequest), position,
+                      cursorRequest.getSize(), order -> OrderMapper.INSTANCE.toResponse(order, null));
+    }
+
+    private static <T extends OrderRecord> CursorPage<OrderResponse> scroll(JpaSpecificationExecutor<T> repository,
+                                                                            Specification<T> spc, ScrollPosition position,
+                                                                            int size, Function<T, OrderResponse> mapper) {
+
+        Window<T> window = repository.findBy(spc, query -> query.sortBy(Sort.by(CREATED_AT, ID))
+                                                                .limit(size)
+                                                                .scroll(position));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            T last = window.getContent().get(window.size() - 1);
+            nextCursor = CursorCodec.encode(Map.of(CREATED_AT, last.getCreatedAt(), ID, last.getId()));
+        }
+        return new CursorPage<>(window.map(mapper).getContent(), nextCursor, nextCursor != null);
+    }
+
+    /**
+     * Writes all matching orders to the stream in (createdAt, id) order, reading them through a database cursor instead of pages.
+     * Runs in a read-only transaction of its own, which is held until the last order is written. Like {@link #listOrders}, a
+     * range starting before the archive horizon is read from the order history view.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(readOnly = true)
+    public void exportOrders(@Valid OrderSearchRequest searchRequest, OrderExportFormat format, OutputStream outputStream)
+        throws IOException {
+
+        try (OrderExportWriter writer = OrderExportWriter.of(format, outputStream)) {
+            Consumer<OrderRecord> export = order -> {
+                try {
+                    writer.write(order);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            if (isBeforeArchiveHorizon(getStartDate(searchRequest))) {
+                orderRepository.forEach(OrderHistoryEntity.class,
+                                        generateSearchParametersAsSpecification(historySpecification, searchRequest),
+                                        Sort.by(CREATED_AT, ID), exportFetchSize, export);
+            } else {
+                orderRepository.forEach(OrderEntity.class,
+                                        generateSearchParametersAsSpecification(orderSpecification, searchRequest),
+                                        Sort.by(CREATED_AT, ID), exportFetchSize, export);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean isBeforeArchiveHorizon(OffsetDateTime startDate) {
+
+        return startDate.isBefore(OffsetDateTime.now(ZoneOffset.UTC).minus(archiveHorizon));
+    }
+
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponse matchOrder(Long orderId) throws RecordNotFoundException, BusinessException {
+
+        return matchOrder(orderId, null);
+    }
+
+    /**
+     * Fills the order manually by the given size, or by its whole unfilled size if no size is given. The order stays partially
+     * filled until its whole size is filled.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponse matchOrder(Long orderId, BigDecimal size) throws RecordNotFoundException, BusinessException {
+
+        OrderEntity orderEntity = getOpenOrder(orderId);
+        long fillSize = size == null ? getUnfilledSize(orderEntity) : FixedPoint.toScaled(size);
+        if (fillSize <= 0 || fillSize > getUnfilledSize(orderEntity)) {
+            throw new BusinessException(ExceptionConstants.INVALID_FILL_SIZE);
+        }
+        return fill(List.of(orderEntity), fillSize, null).getFirst();
+    }
+
+    /**
+     * Fills a crossed buy and sell order against each other by the smaller of their unfilled sizes, in a single transaction; either
+     * both orders are filled or none. The assets of both sides are settled together, so their rows are locked at once.
+     *
+     * <p>The trade is executed at the price of the resting order, the one which arrived first, so that the buyer pays exactly
+     * what the seller receives. A buy order executed below its price gets the difference back from its lock.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public List<OrderResponse> matchOrders(Long buyOrderId, Long sellOrderId) throws RecordNotFoundException, BusinessException {
+
+        OrderEntity buyOrder = getOpenOrder(buyOrderId);
+        OrderEntity sellOrder = getOpenOrder(sellOrderId);
+        if (!OrderSide.BUY.equals(buyOrder.getOrderSide()) || !OrderSide.SELL.equals(sellOrder.getOrderSide())
+            || !buyOrder.getAssetName().equals(sellOrder.getAssetName()) || buyOrder.getPrice() < sellOrder.getPrice()) {
+            throw new BusinessException(ExceptionConstants.ORDERS_NOT_CROSSED);
+        }
+
+        long executionPrice = (ARRIVAL_ORDER.compare(buyOrder, sellOrder) <= 0 ? buyOrder : sellOrder).getPrice();
+        return fill(List.of(buyOrder, sellOrder), Math.min(getUnfilledSize(buyOrder), getUnfilledSize(sellOrder)), executionPrice);
+    }
+
+    /**
+     * Lists the fills of the order. The fills of an archived order stay in the fill ledger, the order itself is then looked up in
+     * the order history view.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    public List<OrderFillResponse> listFills(Long orderId) throws RecordNotFoundException {
+
+        if (!orderRepository.existsById(orderId) && !orderHistoryRepository.existsById(orderId)) {
+            throw new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND);
+        }
+        return orderFillRepository.findAllByOrderIdOrderById(orderId).stream().map(OrderMapper.INSTANCE::toFillResponse).toList();
+    }
+
+    private List<OrderResponse> fill(List<OrderEntity> orderEntities, long size, Long executionPrice) throws BusinessException {
+
+        List<AssetResponse> assets = settle(orderEntities, size, executionPrice);
+        List<OrderResponse> responses = new ArrayList<>(orderEntities.size());
+        for (int i = 0; i < orderEntities.size(); i++) {
+            OrderEntity savedEntity = orderRepository.save(orderEntities.get(i));
+            OrderEventType eventType =
+                OrderStatus.MATCHED.equals(savedEntity.getOrderStatus()) ? OrderEventType.MATCHED : OrderEventType.PARTIALLY_FILLED;
+            OrderEvent event = OrderMapper.INSTANCE.toEvent(savedEntity, eventType);
+            event.setFillPrice(executionPrice);
+            eventPublisher.publishEvent(event);
+            responses.add(OrderMapper.INSTANCE.toResponse(savedEntity, assets.get(i)));
+        }
+        return responses;
+    }
+
+    /**
+     * Settles a fill of the given size of every order and records it in the fill ledger. The fill is executed at the given price,
+     * or at the price of each order if no price is given; when two orders are filled against each other, each fill refers to the
+     * other order.
+     */
+    private List<AssetResponse> settle(List<OrderEntity> orderEntities, long size, Long executionPrice) throws BusinessException {
+
+        Long amount = executionPrice == null ? null : FixedPoint.multiply(executionPrice, size);
+        List<AssetResponse> assets = assetService.matchTradingAssets(orderEntities.stream()
+                                                                                  .map(orderEntity -> toTradeRequest(orderEntity, size, amount))
+                                                                                  .toList());
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OrderFillEntity> fills = new ArrayList<>(orderEntities.size());
+        for (int i = 0; i < orderEntities.size(); i++) {
+            OrderEntity orderEntity = orderEntities.get(i);
+            orderEntity.setFilledSize(orderEntity.getFilledSize() + size);
+            orderEntity.setOrderStatus(orderEntity.getFilledSize() == orderEntity.getSize()
+                                           ? OrderStatus.MATCHED : OrderStatus.PARTIALLY_FILLED);
+
+            OrderFillEntity fill = new OrderFillEntity();
+            fill.setOrderId(orderEntity.getId());
+            fill.setCounterOrderId(orderEntities.size() == 2 ? orderEntities.get(1 - i).getId() : null);
+            fill.setSize(size);
+            fill.setPrice(executionPrice == null ? orderEntity.getPrice() : executionPrice);
+            fill.setCreatedAt(createdAt);
+            fills.add(fill);
+        }
+        orderFillRepository.saveAll(fills);
+        return assets;
+    }
+
+    private static AssetTradeRequest toTradeRequest(OrderEntity orderEntity, long size, Long amount) {
+
+        AssetTradeRequest trade = OrderMapper.INSTANCE.toTradeRequest(orderEntity);
+        trade.setSize(size);
+        trade.setAmount(amount);
+        return trade;
+    }
+
+    private static long getUnfilledSize(OrderEntity orderEntity) {
+
+        return orderEntity.getSize() - orderEntity.getFilledSize();
+    }
+
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponse cancelOrder(Long orderId) throws BusinessException, RecordNotFoundException {
+
+        OrderEntity orderEntity = getOpenOrder(orderId);
+
+        AssetResponse asset = release(orderEntity, OrderStatus.CANCELLED);
+        OrderEntity savedEntity = orderRepository.save(orderEntity);
+        eventPublisher.publishEvent(OrderMapper.INSTANCE.toEvent(savedEntity, OrderEventType.CANCELLED));
+        return OrderMapper.INSTANCE.toResponse(savedEntity, asset);
+    }
+
+    /**
+     * Expires the given orders which are still open and due, releasing their locked assets the same way as a cancellation.
+     *
+     * @return the number of expired orders.
+     */
+    @Timed(value = ORDER_SERVICE_TIMER, histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public int expireOrders(List<Long> orderIds) throws BusinessException {
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OrderEntity> orderEntities = orderRepository.findAllById(orderIds).stream()
+                                                         .filter(orderEntity -> isDue(orderEntity, now))
+                                                         .toList();
+        for (OrderEntity orderEntity : orderEntities) {
+            release(orderEntity, OrderStatus.EXPIRED);
+        }
+        for (OrderEntity savedEntity : orderRepository.saveAll(orderEntities)) {
+            eventPublisher.publishEvent(OrderMapper.INSTANCE.toEvent(savedEntity, OrderEventType.EXPIRED));
+        }
+        return orderEntities.size();
+    }
+
+    private static boolean isDue(OrderEntity orderEntity, OffsetDateTime now) {
+
+        return orderEntity.getOrderStatus().isOpen() && orderEntity.getExpiresAt() != null
+               && !orderEntity.getExpiresAt().isAfter(now);
+    }
+
+    /**
+     * Releases the part of the locked asset which belongs to the unfilled size of the order, the filled part is already settled.
+     */
+    private AssetResponse release(OrderEntity orderEntity, OrderStatus orderStatus) throws BusinessException {
+
+        AssetResponse asset;
+        if (OrderSide.BUY.equals(orderEntity.getOrderSide())) {
+            asset = assetService.unlockAsset(orderEntity.getCustomerId(), TRY_ASSET,
+                                             FixedPoint.multiply(orderEntity.getPrice(), orderEntity.getSize())
+                                             - FixedPoint.multiply(orderEntity.getPrice(), orderEntity.getFilledSize()));
+        } else {
+            asset = assetService.unlockAsset(orderEntity.getCustomerId(), orderEntity.getAssetName(), getUnfilledSize(orderEntity));
+        }
+        orderEntity.setOrderStatus(orderStatus);
+        return asset;
+    }
+
+    /**
+     * Applies a journaled order transition without publishing it again. Orders are restored with their journaled ids, and asset
+     * state is rebuilt by locking, settling and releasing the same sizes as the original transition. A fill is replayed by the
+     * difference of the journaled and the current filled size at its journaled execution price, so that a buy order filled
+     * below its price gets the same refund as before; replayed fills are recorded without their counter order. The asset events of
+     * the replay are kept out of the {@link Outbox}, which recorded them with the original transition.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    void replay(OrderEvent event) throws RecordNotFoundException, BusinessException {
+
+        outbox.suppress();
+
+        switch (event.getEventType()) {
+            case CREATED -> {
+                lock(event.getCustomerId(), event.getAssetName(), event.getOrderSide(), event.getPrice(), event.getSize());
+                orderRepository.insert(event);
+            }
+            case MATCHED, PARTIALLY_FILLED -> {
+                OrderEntity orderEntity = getOpenOrder(event.getId());
+                settle(List.of(orderEntity), event.getFilledSize() - orderEntity.getFilledSize(), event.getFillPrice());
+            }
+            case CANCELLED -> release(getOpenOrder(event.getId()), OrderStatus.CANCELLED);
+            case EXPIRED -> release(getOpenOrder(event.getId()), OrderStatus.EXPIRED);
+        }
+    }
+
+    private OrderEntity getOpenOrder(Long orderId) throws RecordNotFoundException, BusinessException {
+
+        Optional<OrderEntity> orderEntityOpt = orderRepository.findById(orderId);
+
+        if (orderEntityOpt.isEmpty()) {
+            throw new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND);
+        }
+
+        OrderEntity orderEntity = orderEntityOpt.get();
+
+        if (!orderEntity.getOrderStatus().isOpen()) {
+            throw new BusinessException(ExceptionConstants.ORDER_STATUS_NOT_PENDING);
+        }
+        return orderEntity;
+    }
+
+    static <T> Specification<T> generateSearchParametersAsSpecification(OrderSpecification<T> specification,
+                                                                        OrderSearchRequest searchRequest) {
+
+        Specification<T> spc = specification.customerIdEquals(searchRequest.getCustomerId())
+                                             .and(specification.createdAtInRangeEquals(getStartDate(searchRequest),
+                                                                                       searchRequest.getDateRange()));
+
+        if (searchRequest.getOrderSide() != null) {
+            spc = spc.and(specification.orderSideEquals(searchRequest.getOrderSide()));
+        }
+        if (searchRequest.getOrderStatus() != null) {
+            spc = spc.and(specification.orderStatusEquals(searchRequest.getOrderStatus()));
+        }
+        if (searchRequest.getAssetName() != null) {
+            spc = spc.and(specification.assetNameEquals(searchRequest.getAssetName()));
+        }
+        return spc;
+    }
+
+    private static OffsetDateTime getStartDate(OrderSearchRequest searchRequest) {
+
+        return searchRequest.getStartDate().atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+
+}
@@ -4,29 +4,32 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 
-class OrderSpecification {
+/**
+ * Search criteria of orders, shared by the order table and the order history view which have the same attribute names.
+ */
+class OrderSpecification<T> {
 
-    public Specification<OrderEntity> customerIdEquals(UUID customerId) {
+    public Specification<T> customerIdEquals(UUID customerId) {
 
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("customerId"), customerId);
     }
 
-    public Specification<OrderEntity> createdAtInRangeEquals(OffsetDateTime startDate, Integer dateRange) {
+    public Specification<T> createdAtInRangeEquals(OffsetDateTime startDate, Integer dateRange) {
 
         return (root, query, criteriaBuilder) -> criteriaBuilder.between(root.get("createdAt"), startDate, startDate.plusDays(dateRange));
     }
 
-    public Specification<OrderEntity> orderStatusEquals(OrderStatus orderStatus) {
+    public Specification<T> orderStatusEquals(OrderStatus orderStatus) {
 
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("orderStatus"), orderStatus);
     }
 
-    public Specification<OrderEntity> orderSideEquals(OrderSide orderSide) {
+    public Specification<T> orderSideEquals(OrderSide orderSide) {
 
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("orderSide"), orderSide);
     }
 
-    public Specification<OrderEntity> assetNameEquals(String assetName) {
+    public Specification<T> assetNameEquals(String assetName) {
 
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("assetName"), assetName);
     }
@@ -0,0 +1,28 @@
+package com.ing.brokerage.order;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderStatus {
+
+    PENDING(1L),
+    MATCHED(2L),
+    CANCELLED(3L),
+    EXPIRED(4L),
+    PARTIALLY_FILLED(5L);
+
+    /**
+     * Statuses of the orders which can still be filled, cancelled or expired.
+     */
+    public static final List<OrderStatus> OPEN = List.of(PENDING, PARTIALLY_FILLED);
+
+    private final Long id;
+
+    public boolean isOpen() {
+
+        return OPEN.contains(this);
+    }
+}
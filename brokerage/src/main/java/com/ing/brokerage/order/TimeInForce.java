@@ -0,0 +1,19 @@
+package com.ing.brokerage.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * How long a pending order rests before it expires: good till cancelled, until the end of the trading day it was created on,
+ * or good till the given date.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TimeInForce {
+
+    GTC(1L),
+    DAY(2L),
+    GTD(3L);
+
+    private final Long id;
+}
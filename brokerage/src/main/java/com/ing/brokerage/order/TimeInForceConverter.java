@@ -0,0 +1,28 @@
+package com.ing.brokerage.order;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.stream.Stream;
+
+@Converter(autoApply = true)
+public class TimeInForceConverter implements AttributeConverter<TimeInForce, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(TimeInForce timeInForce) {
+
+        if (timeInForce == null) {
+            return null;
+        }
+        return timeInForce.getId();
+    }
+
+    @Override
+    public TimeInForce convertToEntityAttribute(Long id) {
+
+        if (id == null) {
+            return null;
+        }
+        return Stream.of(TimeInForce.values()).filter(o -> o.getId().equals(id)).findFirst()
+                     .orElseThrow(IllegalArgumentException::new);
+    }
+}
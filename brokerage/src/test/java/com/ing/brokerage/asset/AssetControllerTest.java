@@ -2,6 +2,7 @@ package com.ing.brokerage.asset;
 
 import static com.ing.brokerage.asset.AssetData.assetResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -9,8 +10,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ing.brokerage.SecurityTestConfig;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
 import com.ing.brokerage.config.JwtService;
+import com.ing.brokerage.config.RejectionMetrics;
 import com.ing.brokerage.config.UserSecurity;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.customer.CustomerTokenVersions;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -45,6 +51,15 @@ class AssetControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private CustomerTokenVersions customerTokenVersions;
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @MockitoBean
+    private RejectionMetrics rejectionMetrics;
+
     @Test
     @WithMockUser(roles = "CUSTOMER")
     void shouldReturnOk_IfSelfOrAdmin_WhenListAssets() throws Exception {
@@ -149,4 +164,37 @@ class AssetControllerTest {
                .andExpect(jsonPath("$.size").value(5))
                .andExpect(jsonPath("$.totalElements").value(10));
     }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldScrollAssets() throws Exception {
+        UUID customerId = UUID.randomUUID();
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        when(assetService.scrollAssets(any(AssetSearchRequest.class), any(CursorRequest.class)))
+            .thenReturn(new CursorPage<>(List.of(assetResponse()), null, false));
+
+        mockMvc.perform(get("/v1/assets/scroll")
+                            .param("customerId", customerId.toString())
+                            .param("size", "10"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(1))
+               .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(assetService).scrollAssets(any(AssetSearchRequest.class), any(CursorRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnBadRequest_IfSizeIsEmpty_WhenScrollAssets() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+
+        mockMvc.perform(get("/v1/assets/scroll")
+                            .param("customerId", UUID.randomUUID().toString())
+                            .param("size", ""))
+               .andExpect(status().isBadRequest());
+
+        verify(assetService, never()).scrollAssets(any(), any());
+    }
 }
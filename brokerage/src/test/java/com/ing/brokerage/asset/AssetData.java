@@ -1,7 +1,9 @@
 package com.ing.brokerage.asset;
 
+import com.ing.brokerage.base.decimal.FixedPoint;
 import java.math.BigDecimal;
 import java.util.UUID;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 public class AssetData {
 
@@ -17,18 +19,22 @@ public class AssetData {
         entity.setId(1L);
         entity.setCustomerId(UUID.randomUUID());
         entity.setAssetName("TRY");
-        entity.setSize(BigDecimal.valueOf(10000));
-        entity.setUsableSize(BigDecimal.valueOf(5000));
+        entity.setSize(FixedPoint.of(10000));
+        entity.setUsableSize(FixedPoint.of(5000));
         return entity;
     }
 
+    static AssetBalance tryAssetBalance() {
+        return new SpelAwareProxyProjectionFactory().createProjection(AssetBalance.class, tryAssetEntity());
+    }
+
     public static AssetEntity assetEntity() {
         AssetEntity entity = new AssetEntity();
         entity.setId(2L);
         entity.setCustomerId(UUID.randomUUID());
         entity.setAssetName("TEST");
-        entity.setSize(BigDecimal.valueOf(100));
-        entity.setUsableSize(BigDecimal.valueOf(80));
+        entity.setSize(FixedPoint.of(100));
+        entity.setUsableSize(FixedPoint.of(80));
         return entity;
     }
 
@@ -41,4 +47,14 @@ public class AssetData {
         response.setUsableSize(BigDecimal.valueOf(80));
         return response;
     }
+
+    public static AssetResponse tryAssetResponse() {
+        AssetResponse response = new AssetResponse();
+        response.setId(2L);
+        response.setCustomerId(UUID.randomUUID());
+        response.setAssetName("TRY");
+        response.setSize(BigDecimal.valueOf(10000));
+        response.setUsableSize(BigDecimal.valueOf(5000));
+        return response;
+    }
 }
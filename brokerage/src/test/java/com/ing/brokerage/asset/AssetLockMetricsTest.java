@@ -0,0 +1,41 @@
+package com.ing.brokerage.asset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AssetLockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AssetLockMetrics assetLockMetrics = new AssetLockMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRecordWaitAndHold_WhenTransactionCompletes() {
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(assetLockMetrics.lock(AssetLockMetrics.RESERVE, () -> 1)).isEqualTo(1);
+
+        assertThat(meterRegistry.get("brokerage.asset.lock.wait").tag("operation", "reserve").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("brokerage.asset.lock.hold").tag("operation", "reserve").timer().count()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(synchronization -> synchronization.afterCompletion(
+                                             TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(meterRegistry.get("brokerage.asset.lock.hold").tag("operation", "reserve").timer().count()).isEqualTo(1);
+    }
+}
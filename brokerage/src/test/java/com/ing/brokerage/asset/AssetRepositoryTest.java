@@ -0,0 +1,59 @@
+package com.ing.brokerage.asset;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class AssetRepositoryTest {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Test
+    void shouldReturnUpdatedBalance_IfUsableSizeIsSufficient_WhenReserve() {
+
+        UUID customerId = saveAsset(FixedPoint.of(100), FixedPoint.of(100));
+
+        assertThat(assetRepository.reserve(customerId, TRY_ASSET, FixedPoint.of(40))).get()
+                                                                                     .extracting(AssetBalance::getCustomerId,
+                                                                                                 AssetBalance::getSize,
+                                                                                                 AssetBalance::getUsableSize)
+                                                                                     .containsExactly(customerId, FixedPoint.of(100),
+                                                                                                      FixedPoint.of(60));
+        assertThat(assetRepository.reserve(customerId, TRY_ASSET, FixedPoint.of(61))).isEmpty();
+    }
+
+    @Test
+    void shouldReleaseOnlyLockedSize_WhenRelease() {
+
+        UUID customerId = saveAsset(FixedPoint.of(100), FixedPoint.of(60));
+
+        assertThat(assetRepository.release(customerId, TRY_ASSET, FixedPoint.of(41))).isEmpty();
+        assertThat(assetRepository.release(customerId, TRY_ASSET, 1L)).get()
+                                                                      .extracting(AssetBalance::getUsableSize)
+                                                                      .isEqualTo(FixedPoint.of(60) + 1L);
+    }
+
+    @Test
+    void shouldReturnEmpty_IfAssetNotExists_WhenCredit() {
+
+        assertThat(assetRepository.credit(UUID.randomUUID(), TRY_ASSET, FixedPoint.of(1))).isEmpty();
+    }
+
+    private UUID saveAsset(long size, long usableSize) {
+
+        AssetEntity assetEntity = new AssetEntity();
+        assetEntity.setCustomerId(UUID.randomUUID());
+        assetEntity.setAssetName(TRY_ASSET);
+        assetEntity.setSize(size);
+        assetEntity.setUsableSize(usableSize);
+        assetRepository.save(assetEntity);
+        return assetEntity.getCustomerId();
+    }
+}
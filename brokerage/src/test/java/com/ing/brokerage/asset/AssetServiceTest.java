@@ -0,0 +1,469 @@
+package com.ing.brokerage.asset;
+
+import static com.ing.brokerage.asset.AssetData.assetEntity;
+import static com.ing.brokerage.asset.AssetData.assetResponse;
+import static com.ing.brokerage.asset.AssetData.assetSearchRequest;
+import static com.ing.brokerage.asset.AssetData.tryAssetBalance;
+import static com.ing.brokerage.asset.AssetData.tryAssetEntity;
+import static com.ing.brokerage.asset.AssetData.tryAssetResponse;
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.pagination.CursorCodec;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.order.OrderSide;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+@ExtendWith(MockitoExtension.class)
+class AssetServiceTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Spy
+    private AssetLockMetrics assetLockMetrics = new AssetLockMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AssetService assetService;
+
+    @Test
+    void shouldListAssets() {
+
+        AssetSearchRequest searchRequest = assetSearchRequest();
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<AssetEntity> page = new PageImpl<>(List.of(tryAssetEntity(), assetEntity()));
+
+        when(assetRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+
+        Page<AssetResponse> result = assetService.listAssets(searchRequest, pageable);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).getAssetName()).isEqualTo(TRY_ASSET);
+        assertThat(result.getContent().get(1).getAssetName()).isEqualTo("TEST");
+
+        verify(assetRepository).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void shouldFilterByAssetName_WhenListAssets() {
+
+        AssetSearchRequest searchRequest = assetSearchRequest();
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<AssetEntity> page = new PageImpl<>(List.of(assetEntity()));
+
+        when(assetRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+
+        Page<AssetResponse> result = assetService.listAssets(searchRequest, pageable);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getAssetName()).isEqualTo("TEST");
+    }
+
+    @Test
+    void shouldReturnEmptyPage_IfNoAssetsFound_WhenListAssets() {
+
+        AssetSearchRequest searchRequest = assetSearchRequest();
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<AssetEntity> emptyPage = new PageImpl<>(List.of());
+
+        when(assetRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+
+        Page<AssetResponse> result = assetService.listAssets(searchRequest, pageable);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNextCursor_IfMoreAssetsExist_WhenScrollAssets() throws Exception {
+
+        when(assetRepository.findBy(any(Specification.class), any()))
+            .thenReturn(Window.from(List.of(tryAssetEntity(), assetEntity()), ScrollPosition::offset, true));
+
+        CursorPage<AssetResponse> result = assetService.scrollAssets(assetSearchRequest(), new CursorRequest());
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(CursorCodec.decode(result.getNextCursor())).containsEntry("id", "2");
+    }
+
+    @Test
+    void shouldThrowException_IfCursorIsNotDecodable_WhenScrollAssets() {
+
+        CursorRequest cursorRequest = new CursorRequest();
+        cursorRequest.setCursor("not a cursor");
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.scrollAssets(assetSearchRequest(), cursorRequest));
+        Assertions.assertEquals(ExceptionConstants.INVALID_CURSOR, ex.getMessageKey());
+    }
+
+    @Test
+    void shouldLockTryAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        long lockSize = FixedPoint.of(1000);
+
+        when(assetRepository.reserve(customerId, TRY_ASSET, lockSize)).thenReturn(Optional.of(tryAssetBalance()));
+
+        AssetResponse response = assetService.lockAsset(customerId, TRY_ASSET, lockSize);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getAssetName()).isEqualTo("TRY");
+        verify(assetRepository, never()).findByCustomerIdAndAssetName(any(), any());
+
+        ArgumentCaptor<AssetEvent> eventCaptor = ArgumentCaptor.forClass(AssetEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEventType()).isEqualTo(AssetEventType.LOCKED);
+        assertThat(eventCaptor.getValue().getAsset()).isSameAs(response);
+    }
+
+    @Test
+    void shouldThrowException_IfAssetNotFound_WhenLockAsset() {
+
+        long lockSize = FixedPoint.of(1000);
+
+        when(assetRepository.reserve(any(), eq("TEST"), eq(lockSize))).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.lockAsset(UUID.randomUUID(), "TEST", lockSize));
+        Assertions.assertTrue(ex.getMessageKey().contains(ExceptionConstants.INSUFFICIENT_ASSET));
+    }
+
+    @Test
+    void shouldThrowException_IfInsufficientUsableSize_WhenLockAsset() {
+
+        long lockSize = FixedPoint.of(6000);
+
+        when(assetRepository.reserve(any(), eq(TRY_ASSET), eq(lockSize))).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.lockAsset(UUID.randomUUID(), TRY_ASSET, lockSize));
+        Assertions.assertTrue(ex.getMessageKey().contains(ExceptionConstants.INSUFFICIENT_ASSET));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldLockEachSizeOnce_IfUsableSizeIsSufficient_WhenLockAssets() {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.reserve(customerId, TRY_ASSET, FixedPoint.of(3000)))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 5000, 2000)))
+            .thenReturn(Optional.empty());
+        when(assetRepository.reserve(customerId, TRY_ASSET, FixedPoint.of(2000)))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 5000, 0)));
+
+        List<Optional<AssetResponse>> locks =
+            assetService.lockAssets(customerId, TRY_ASSET, List.of(FixedPoint.of(3000), FixedPoint.of(3000), FixedPoint.of(2000)));
+
+        assertThat(locks).hasSize(3);
+        assertThat(locks.get(0)).get().extracting(AssetResponse::getUsableSize).isEqualTo(BigDecimal.valueOf(2000));
+        assertThat(locks.get(1)).isEmpty();
+        assertThat(locks.get(2)).get().extracting(AssetResponse::getUsableSize).isEqualTo(BigDecimal.ZERO);
+
+        verify(assetRepository, times(2)).reserve(customerId, TRY_ASSET, FixedPoint.of(3000));
+        verify(assetRepository).reserve(customerId, TRY_ASSET, FixedPoint.of(2000));
+        verify(assetRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(AssetEvent.class));
+    }
+
+    @Test
+    void shouldRejectAllSizes_IfAssetNotFound_WhenLockAssets() {
+
+        when(assetRepository.reserve(any(), any(), anyLong())).thenReturn(Optional.empty());
+
+        List<Optional<AssetResponse>> locks = assetService.lockAssets(UUID.randomUUID(), "TEST", List.of(FixedPoint.of(1), FixedPoint.of(10)));
+
+        assertThat(locks).containsExactly(Optional.empty(), Optional.empty());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldUnlockAsset_IfAssetExists_WhenUnlockAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        long unlockSize = FixedPoint.of(1000);
+
+        when(assetRepository.release(customerId, TRY_ASSET, unlockSize)).thenReturn(Optional.of(tryAssetBalance()));
+
+        AssetResponse response = assetService.unlockAsset(customerId, TRY_ASSET, unlockSize);
+
+        assertThat(response).isNotNull();
+        verify(assetRepository).release(customerId, TRY_ASSET, unlockSize);
+    }
+
+    @Test
+    void shouldThrowException_IfAssetNotFound_WhenUnlockAsset() {
+
+        long unlockSize = FixedPoint.of(1000);
+
+        when(assetRepository.release(any(), any(), anyLong())).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.unlockAsset(UUID.randomUUID(), "TEST", unlockSize));
+        Assertions.assertEquals(ExceptionConstants.NO_ASSET_TO_UNLOCK, ex.getMessageKey());
+    }
+
+    @Test
+    void shouldDebitLockedTryAndCreditAsset_IfOrderSideIsBuy_WhenMatchTradingAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        long amount = FixedPoint.of(1500);
+        when(assetRepository.debitLocked(customerId, TRY_ASSET, amount, amount))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 8500, 5000)));
+        when(assetRepository.credit(customerId, "TEST", FixedPoint.of(10))).thenReturn(Optional.of(balance(customerId, "TEST", 110, 90)));
+
+        AssetResponse response = assetService.matchTradingAsset(customerId, "TEST", FixedPoint.of(150), FixedPoint.of(10),
+                                                                OrderSide.BUY);
+
+        assertThat(response.getAssetName()).isEqualTo("TEST");
+        assertThat(response.getSize()).isEqualTo(BigDecimal.valueOf(110));
+        assertThat(response.getUsableSize()).isEqualTo(BigDecimal.valueOf(90));
+        verify(assetRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreateNewAsset_IfAssetNotExists_WhenMatchBuyingAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(eq(customerId), eq(TRY_ASSET), anyLong(), anyLong()))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 8500, 5000)));
+        when(assetRepository.credit(customerId, "TEST", FixedPoint.of(10))).thenReturn(Optional.empty());
+        when(assetRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AssetResponse response = assetService.matchTradingAsset(customerId, "TEST", FixedPoint.of(150), FixedPoint.of(10),
+                                                                OrderSide.BUY);
+
+        assertThat(response.getCustomerId()).isEqualTo(customerId);
+        assertThat(response.getSize()).isEqualTo(BigDecimal.TEN);
+
+        ArgumentCaptor<AssetEntity> captor = ArgumentCaptor.forClass(AssetEntity.class);
+        verify(assetRepository).save(captor.capture());
+        assertThat(captor.getValue().getAssetName()).isEqualTo("TEST");
+        assertThat(captor.getValue().getSize()).isEqualTo(FixedPoint.of(10));
+        assertThat(captor.getValue().getUsableSize()).isEqualTo(FixedPoint.of(10));
+    }
+
+    @Test
+    void shouldThrowException_IfTryIsNotLocked_WhenMatchBuyingAsset() {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(eq(customerId), eq(TRY_ASSET), anyLong(), anyLong())).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.matchTradingAsset(customerId, "TEST", FixedPoint.of(1000),
+                                                                                            FixedPoint.of(10), OrderSide.BUY));
+        Assertions.assertTrue(ex.getMessageKey().contains(ExceptionConstants.INSUFFICIENT_ASSET));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldDebitLockedAssetAndCreditTry_IfOrderSideIsSell_WhenMatchTradingAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(customerId, "TEST", FixedPoint.of(20), FixedPoint.of(20)))
+            .thenReturn(Optional.of(balance(customerId, "TEST", 80, 80)));
+        when(assetRepository.credit(customerId, TRY_ASSET, FixedPoint.of(3000)))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 13000, 8000)));
+
+        AssetResponse response = assetService.matchTradingAsset(customerId, "TEST", FixedPoint.of(150), FixedPoint.of(20),
+                                                                OrderSide.SELL);
+
+        assertThat(response.getAssetName()).isEqualTo("TEST");
+        assertThat(response.getSize()).isEqualTo(BigDecimal.valueOf(80));
+        assertThat(response.getUsableSize()).isEqualTo(BigDecimal.valueOf(80));
+    }
+
+    @Test
+    void shouldThrowException_IfAssetIsNotLocked_WhenMatchSellAsset() {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(customerId, "TEST", FixedPoint.of(21), FixedPoint.of(21))).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.matchTradingAsset(customerId, "TEST", FixedPoint.of(150),
+                                                                                            FixedPoint.of(21), OrderSide.SELL));
+        Assertions.assertTrue(ex.getMessageKey().contains(ExceptionConstants.INSUFFICIENT_ASSET));
+        verify(assetRepository, never()).credit(any(), any(), anyLong());
+    }
+
+    @Test
+    void shouldCreditTry_WithPriceMultiplication_WhenMatchBuyingTryAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.credit(customerId, TRY_ASSET, FixedPoint.of(200)))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 10200, 5200)));
+
+        AssetResponse response = assetService.matchTradingAsset(customerId, TRY_ASSET, FixedPoint.of(2), FixedPoint.of(100),
+                                                                OrderSide.BUY);
+
+        assertThat(response.getSize()).isEqualTo(BigDecimal.valueOf(10200));
+        assertThat(response.getUsableSize()).isEqualTo(BigDecimal.valueOf(5200));
+    }
+
+    @Test
+    void shouldDebitUsableTry_WhenMatchSellingTryAsset() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debit(customerId, TRY_ASSET, FixedPoint.of(100)))
+            .thenReturn(Optional.of(balance(customerId, TRY_ASSET, 9900, 4900)));
+
+        AssetResponse response = assetService.matchTradingAsset(customerId, TRY_ASSET, FixedPoint.of(1), FixedPoint.of(100),
+                                                                OrderSide.SELL);
+
+        assertThat(response.getSize()).isEqualTo(BigDecimal.valueOf(9900));
+        assertThat(response.getUsableSize()).isEqualTo(BigDecimal.valueOf(4900));
+    }
+
+    @Test
+    void shouldThrowException_IfInsufficientUsableTry_WhenMatchSellingTryAsset() {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debit(customerId, TRY_ASSET, FixedPoint.of(5001))).thenReturn(Optional.empty());
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> assetService.matchTradingAsset(customerId, TRY_ASSET, FixedPoint.of(1),
+                                                                                            FixedPoint.of(5001), OrderSide.SELL));
+        Assertions.assertTrue(ex.getMessageKey().contains(ExceptionConstants.INSUFFICIENT_ASSET));
+    }
+
+    @Test
+    void shouldMoveExactRowsInCustomerAndAssetNameOrder_WhenMatchTradingAssets() throws Exception {
+
+        UUID buyerId = new UUID(2, 0);
+        UUID sellerId = new UUID(1, 0);
+        when(assetRepository.debitLocked(any(), any(), anyLong(), anyLong())).thenAnswer(
+            invocation -> Optional.of(balance(invocation.getArgument(0), invocation.getArgument(1), 10, 10)));
+        when(assetRepository.credit(any(), any(), anyLong())).thenAnswer(
+            invocation -> Optional.of(balance(invocation.getArgument(0), invocation.getArgument(1), 10, 10)));
+
+        List<AssetResponse> responses = assetService.matchTradingAssets(List.of(trade(buyerId, OrderSide.BUY),
+                                                                                trade(sellerId, OrderSide.SELL)));
+
+        assertThat(responses).extracting(AssetResponse::getCustomerId).containsExactly(buyerId, sellerId);
+        assertThat(responses).extracting(AssetResponse::getAssetName).containsOnly("TEST");
+
+        long amount = FixedPoint.of(1500);
+        InOrder settlement = inOrder(assetRepository);
+        settlement.verify(assetRepository).debitLocked(sellerId, "TEST", FixedPoint.of(10), FixedPoint.of(10));
+        settlement.verify(assetRepository).credit(sellerId, TRY_ASSET, amount);
+        settlement.verify(assetRepository).credit(buyerId, "TEST", FixedPoint.of(10));
+        settlement.verify(assetRepository).debitLocked(buyerId, TRY_ASSET, amount, amount);
+        verify(assetRepository, never()).findByCustomerIdAndAssetName(any(), any());
+
+        ArgumentCaptor<AssetEvent> eventCaptor = ArgumentCaptor.forClass(AssetEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).extracting(AssetEvent::getEventType).containsOnly(AssetEventType.SETTLED);
+    }
+
+    @Test
+    void shouldDebitExactlyLockedAmount_IfOrderIsFilledInParts_WhenMatchTradingAssets() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(any(), any(), anyLong(), anyLong())).thenReturn(Optional.of(balance(customerId, TRY_ASSET, 10, 10)));
+        when(assetRepository.credit(any(), any(), anyLong())).thenReturn(Optional.of(balance(customerId, "TEST", 10, 10)));
+        long price = 3_333L;
+        long half = FixedPoint.of(1) / 2;
+
+        AssetTradeRequest firstFill = trade(customerId, OrderSide.BUY);
+        firstFill.setPrice(price);
+        firstFill.setSize(half);
+        assetService.matchTradingAssets(List.of(firstFill));
+
+        AssetTradeRequest secondFill = trade(customerId, OrderSide.BUY);
+        secondFill.setPrice(price);
+        secondFill.setSize(half);
+        secondFill.setFilledSize(half);
+        assetService.matchTradingAssets(List.of(secondFill));
+
+        ArgumentCaptor<Long> lockedCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(assetRepository, times(2)).debitLocked(eq(customerId), eq(TRY_ASSET), lockedCaptor.capture(), anyLong());
+        assertThat(lockedCaptor.getAllValues().stream().mapToLong(Long::longValue).sum())
+            .isEqualTo(FixedPoint.multiply(price, FixedPoint.of(1)));
+    }
+
+    @Test
+    void shouldRefundBuyerAndCreditSellerTheSameAmount_IfExecutedBelowBuyPrice_WhenMatchTradingAssets() throws Exception {
+
+        UUID buyerId = UUID.randomUUID();
+        UUID sellerId = UUID.randomUUID();
+        when(assetRepository.debitLocked(any(), any(), anyLong(), anyLong())).thenAnswer(
+            invocation -> Optional.of(balance(invocation.getArgument(0), invocation.getArgument(1), 10, 10)));
+        when(assetRepository.credit(any(), any(), anyLong())).thenAnswer(
+            invocation -> Optional.of(balance(invocation.getArgument(0), invocation.getArgument(1), 10, 10)));
+        long amount = FixedPoint.multiply(FixedPoint.of(140), FixedPoint.of(10));
+
+        AssetTradeRequest buy = trade(buyerId, OrderSide.BUY);
+        buy.setAmount(amount);
+        AssetTradeRequest sell = trade(sellerId, OrderSide.SELL);
+        sell.setPrice(FixedPoint.of(140));
+        sell.setAmount(amount);
+        assetService.matchTradingAssets(List.of(buy, sell));
+
+        verify(assetRepository).debitLocked(buyerId, TRY_ASSET, FixedPoint.of(1500), amount);
+        verify(assetRepository).credit(sellerId, TRY_ASSET, amount);
+    }
+
+    private static AssetBalance balance(UUID customerId, String assetName, long size, long usableSize) {
+
+        AssetEntity entity = new AssetEntity();
+        entity.setCustomerId(customerId);
+        entity.setAssetName(assetName);
+        entity.setSize(FixedPoint.of(size));
+        entity.setUsableSize(FixedPoint.of(usableSize));
+        return new SpelAwareProxyProjectionFactory().createProjection(AssetBalance.class, entity);
+    }
+
+    private static AssetTradeRequest trade(UUID customerId, OrderSide orderSide) {
+
+        AssetTradeRequest trade = new AssetTradeRequest();
+        trade.setCustomerId(customerId);
+        trade.setAssetName("TEST");
+        trade.setPrice(FixedPoint.of(150));
+        trade.setSize(FixedPoint.of(10));
+        trade.setOrderSide(orderSide);
+        return trade;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ing.brokerage.base.decimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ing.brokerage.exception.AmountOutOfRangeException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class FixedPointTest {
+
+    @Test
+    void shouldRoundHalfUp_WhenMultiply() {
+
+        assertThat(FixedPoint.multiply(FixedPoint.of(150), FixedPoint.of(10))).isEqualTo(FixedPoint.of(1500));
+        assertThat(FixedPoint.multiply(1_501_234L, 105_000L)).isEqualTo(15_762_957L);
+        assertThat(FixedPoint.multiply(5L, 5_000L)).isEqualTo(3L);
+        assertThat(FixedPoint.multiply(-5L, 5_000L)).isEqualTo(-3L);
+    }
+
+    @Test
+    void shouldThrowException_IfProductOverflows_WhenMultiply() {
+
+        assertThatThrownBy(() -> FixedPoint.multiply(Long.MAX_VALUE / 2, FixedPoint.of(3))).isInstanceOf(AmountOutOfRangeException.class);
+        assertThatThrownBy(() -> FixedPoint.of(Long.MAX_VALUE / 1_000)).isInstanceOf(AmountOutOfRangeException.class);
+        assertThatThrownBy(() -> FixedPoint.of(Long.MIN_VALUE)).isInstanceOf(AmountOutOfRangeException.class);
+    }
+
+    @Test
+    void shouldRescaleProduct_IfRawProductExceedsLong_WhenMultiply() {
+
+        assertThat(FixedPoint.multiply(FixedPoint.of(1_000_000), FixedPoint.of(1_000_000))).isEqualTo(FixedPoint.of(1_000_000_000_000L));
+        assertThat(FixedPoint.multiply(FixedPoint.of(-1_000_000), FixedPoint.of(1_000_000))).isEqualTo(FixedPoint.of(-1_000_000_000_000L));
+        assertThat(FixedPoint.multiply(1_000_000_000_000_005L, 5_000L)).isEqualTo(500_000_000_000_003L);
+        assertThat(FixedPoint.multiply(Long.MAX_VALUE, FixedPoint.of(1))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldConvertDecimals_WhenToScaledAndToDecimal() {
+
+        assertThat(FixedPoint.toScaled(new BigDecimal("10.50"))).isEqualTo(105_000L);
+        assertThat(FixedPoint.toDecimal(105_000L)).isEqualTo(new BigDecimal("10.5"));
+        assertThat(FixedPoint.toDecimal(FixedPoint.of(100))).isEqualTo(BigDecimal.valueOf(100));
+        assertThat(FixedPoint.toDecimal(0L)).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldThrowException_IfDecimalDoesNotFit_WhenToScaled() {
+
+        assertThatThrownBy(() -> FixedPoint.toScaled(new BigDecimal("1.00001"))).isInstanceOf(AmountOutOfRangeException.class);
+        assertThatThrownBy(() -> FixedPoint.toScaled(new BigDecimal("1e15"))).isInstanceOf(AmountOutOfRangeException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ing.brokerage.base.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldAppendOneLinePerMessage_WhenPublish() throws Exception {
+
+        Path file = directory.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file);
+        try {
+            sink.publish(List.of(message(1L, "{\"id\":7}")));
+            sink.publish(List.of(message(2L, "{\"id\":8}")));
+        } finally {
+            sink.destroy();
+        }
+
+        assertThat(Files.readAllLines(file)).containsExactly(
+            "{\"id\":1,\"aggregateType\":\"ORDER\",\"aggregateId\":\"7\",\"eventType\":\"CREATED\","
+            + "\"createdAt\":\"2025-11-09T10:15:30Z\",\"payload\":{\"id\":7}}",
+            "{\"id\":2,\"aggregateType\":\"ORDER\",\"aggregateId\":\"7\",\"eventType\":\"CREATED\","
+            + "\"createdAt\":\"2025-11-09T10:15:30Z\",\"payload\":{\"id\":8}}");
+    }
+
+    private static OutboxMessage message(Long id, String payload) {
+
+        OutboxMessage message = new OutboxMessage();
+        message.setId(id);
+        message.setAggregateType("ORDER");
+        message.setAggregateId("7");
+        message.setEventType("CREATED");
+        message.setPayload(payload);
+        message.setCreatedAt(OffsetDateTime.parse("2025-11-09T10:15:30Z"));
+        return message;
+    }
+}
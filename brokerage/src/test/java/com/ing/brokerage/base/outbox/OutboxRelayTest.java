@@ -0,0 +1,92 @@
+package com.ing.brokerage.base.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+
+        outboxRelay = new OutboxRelay(outboxRepository, outboxSink, BATCH_SIZE, Duration.ofSeconds(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+
+        outboxRelay.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishAndDeleteBatches_UntilBatchIsNotFull_WhenPoll() throws Exception {
+
+        when(outboxRepository.findAllByOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(events(1, 2), events(3));
+
+        outboxRelay.poll();
+
+        ArgumentCaptor<List<OutboxMessage>> batches = ArgumentCaptor.forClass(List.class);
+        verify(outboxSink, times(2)).publish(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(OutboxMessage::getId).containsExactly(1L, 2L);
+        assertThat(batches.getAllValues().get(1)).extracting(OutboxMessage::getId).containsExactly(3L);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void shouldKeepBatch_IfSinkFails_WhenPoll() throws Exception {
+
+        when(outboxRepository.findAllByOrderByIdAsc(Limit.of(BATCH_SIZE))).thenReturn(events(1, 2));
+        doThrow(new IOException("sink is down")).when(outboxSink).publish(anyList());
+
+        outboxRelay.poll();
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static List<OutboxEntity> events(long... ids) {
+
+        return LongStream.of(ids).mapToObj(id -> {
+            OutboxEntity outboxEntity = new OutboxEntity();
+            outboxEntity.setId(id);
+            outboxEntity.setAggregateType("ORDER");
+            outboxEntity.setAggregateId(String.valueOf(id));
+            outboxEntity.setEventType("CREATED");
+            outboxEntity.setPayload("{}");
+            outboxEntity.setCreatedAt(OffsetDateTime.now());
+            return outboxEntity;
+        }).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ing.brokerage.base.sequencer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CustomerSequencerTest {
+
+    private final CustomerSequencer customerSequencer = new CustomerSequencer(4, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+
+        customerSequencer.destroy();
+    }
+
+    @Test
+    void shouldRunTasksOneAtATime_IfCustomerIsSame_WhenExecute() {
+
+        UUID customerId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            IntStream.range(0, 32).forEach(i -> calls.add(CompletableFuture.runAsync(() -> {
+                try {
+                    customerSequencer.execute(customerId, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.onSpinWait();
+                        return running.decrementAndGet();
+                    });
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, callers)));
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunTaskOnce_IfCustomersAreOnDifferentLanes_WhenExecute() throws Exception {
+
+        Set<UUID> customerIds = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        AtomicInteger calls = new AtomicInteger();
+
+        Integer result = customerSequencer.execute(customerIds, calls::incrementAndGet);
+
+        assertThat(result).isEqualTo(1);
+        assertThat(customerSequencer.execute(customerIds.iterator().next(), calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRunInline_IfCalledFromLane_WhenExecute() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+
+        String thread = customerSequencer.execute(customerId, () -> {
+            String outer = Thread.currentThread().getName();
+            return customerSequencer.execute(customerId, () -> Thread.currentThread().getName()).equals(outer) ? outer : null;
+        });
+
+        assertThat(thread).startsWith("customer-lane-");
+    }
+
+    @Test
+    void shouldThrowException_IfTaskFails_WhenExecute() {
+
+        assertThatThrownBy(() -> customerSequencer.execute(UUID.randomUUID(), () -> {
+            throw new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET);
+        })).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ing.brokerage.base.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_800_000_000_000L;
+
+    @Test
+    void shouldHandOutIdsInDueOrder_WhenAdvance() {
+
+        TimingWheel timingWheel = new TimingWheel(1_000, START);
+        timingWheel.add(3, START + 90_000_000);
+        timingWheel.add(1, START + 1_500);
+        timingWheel.add(2, START + 64_000);
+
+        List<Long> expired = new ArrayList<>();
+        timingWheel.advance(START + 1_999, expired::add);
+        assertThat(expired).isEmpty();
+
+        timingWheel.advance(START + 2_000, expired::add);
+        assertThat(expired).containsExactly(1L);
+
+        timingWheel.advance(START + 63_999, expired::add);
+        assertThat(expired).containsExactly(1L);
+
+        timingWheel.advance(START + 90_000_000, expired::add);
+        assertThat(expired).containsExactly(1L, 2L, 3L);
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void shouldHandOutOverdueIds_WhenAdvance() {
+
+        TimingWheel timingWheel = new TimingWheel(1_000, START);
+        timingWheel.add(1, START - 60_000);
+
+        List<Long> expired = new ArrayList<>();
+        timingWheel.advance(START, expired::add);
+
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void shouldHandOutEveryIdWithinATickOfItsDueTime_WhenAdvance() {
+
+        TimingWheel timingWheel = new TimingWheel(1_000, START);
+        Random random = new Random(42);
+        Map<Long, Long> dueTimes = new HashMap<>();
+        for (long id = 0; id < 100_000; id++) {
+            long dueMillis = START + (long) (random.nextDouble() * 10_000_000_000L);
+            dueTimes.put(id, dueMillis);
+            timingWheel.add(id, dueMillis);
+        }
+        assertThat(timingWheel.size()).isEqualTo(100_000);
+
+        Map<Long, Long> expiredTimes = new HashMap<>();
+        for (long now = START; now < START + 10_003_600_000L; now += 3_600_000) {
+            long advancedTo = now;
+            timingWheel.advance(now, id -> expiredTimes.put(id, advancedTo));
+        }
+
+        assertThat(expiredTimes).hasSize(100_000);
+        dueTimes.forEach((id, dueMillis) -> assertThat(expiredTimes.get(id)).isBetween(dueMillis, dueMillis + 3_600_000));
+        assertThat(timingWheel.size()).isZero();
+    }
+}
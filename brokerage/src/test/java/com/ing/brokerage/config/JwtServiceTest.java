@@ -0,0 +1,75 @@
+package com.ing.brokerage.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ing.brokerage.customer.Role;
+import com.ing.brokerage.customer.UserResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtService jwtService = new JwtService();
+
+    private final UserResponse user = new UserResponse();
+
+    @BeforeEach
+    void setUp() {
+
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        jwtService.afterPropertiesSet();
+
+        user.setId(UUID.randomUUID());
+        user.setUsername("alice");
+        user.setRole(Role.CUSTOMER);
+        user.setTokenVersion(3);
+    }
+
+    @Test
+    void shouldReturnClaims_IfTokenIsValid_WhenVerifyClaims() {
+
+        Claims claims = jwtService.verifyClaims(jwtService.generateToken(user));
+
+        assertThat(claims.getSubject()).isEqualTo("alice");
+        assertThat(claims.get("id", String.class)).isEqualTo(user.getId().toString());
+    }
+
+    @Test
+    void shouldBuildUserFromClaims_WhenExtractUser() {
+
+        UserResponse extracted = jwtService.extractUser(jwtService.verifyClaims(jwtService.generateToken(user)));
+
+        assertThat(extracted.getId()).isEqualTo(user.getId());
+        assertThat(extracted.getUsername()).isEqualTo("alice");
+        assertThat(extracted.getRole()).isEqualTo(Role.CUSTOMER);
+        assertThat(extracted.getTokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldThrowException_IfSignatureIsTampered_WhenVerifyClaims() {
+
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.verifyClaims(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void shouldThrowException_IfTokenIsExpired_WhenVerifyClaims() {
+
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", -1_000L);
+
+        String token = jwtService.generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.verifyClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
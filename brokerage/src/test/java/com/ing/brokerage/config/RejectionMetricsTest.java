@@ -0,0 +1,33 @@
+package com.ing.brokerage.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.exception.ExceptionConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class RejectionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RejectionMetrics rejectionMetrics = new RejectionMetrics(meterRegistry);
+
+    @Test
+    void shouldRegisterKnownCodes_WhenCreated() {
+
+        assertThat(meterRegistry.get("brokerage.rejections").tag("code", ExceptionConstants.ORDER_STATUS_NOT_PENDING)
+                                .tag("reason", "ORDER_STATUS_NOT_PENDING").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldCountByCode_WhenIncrement() {
+
+        rejectionMetrics.increment(ExceptionConstants.INSUFFICIENT_ASSET);
+        rejectionMetrics.increment(ExceptionConstants.INSUFFICIENT_ASSET);
+        rejectionMetrics.increment("MA100");
+
+        assertThat(meterRegistry.get("brokerage.rejections").tag("reason", "INSUFFICIENT_ASSET").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("brokerage.rejections").tag("code", "MA100").tag("reason", "MA100").counter().count())
+            .isEqualTo(1);
+    }
+}
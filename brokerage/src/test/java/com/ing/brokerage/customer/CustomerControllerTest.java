@@ -20,6 +20,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ing.brokerage.SecurityTestConfig;
 import com.ing.brokerage.config.JwtService;
+import com.ing.brokerage.config.RejectionMetrics;
 import com.ing.brokerage.config.UserSecurity;
 import com.ing.brokerage.exception.ExceptionConstants;
 import com.ing.brokerage.exception.RecordNotFoundException;
@@ -61,6 +62,12 @@ class CustomerControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private CustomerTokenVersions customerTokenVersions;
+
+    @MockitoBean
+    private RejectionMetrics rejectionMetrics;
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void shouldCreateCustomer() throws Exception {
@@ -0,0 +1,77 @@
+package com.ing.brokerage.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerExistenceCacheTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private CustomerExistenceCache customerExistenceCache;
+
+    @Test
+    void shouldNotQuery_IfCustomerIsWarmLoaded_WhenExists() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.findAllIds()).thenReturn(List.of(customerId));
+        customerExistenceCache.afterPropertiesSet();
+
+        assertThat(customerExistenceCache.exists(customerId)).isTrue();
+        verify(customerRepository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldQueryOnce_IfCustomerIsUnknown_WhenExists() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(false);
+
+        assertThat(customerExistenceCache.exists(customerId)).isFalse();
+        assertThat(customerExistenceCache.exists(customerId)).isFalse();
+        verify(customerRepository, times(1)).existsById(customerId);
+    }
+
+    @Test
+    void shouldFollowCommittedChanges_WhenOnExistenceChanged() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(false);
+        assertThat(customerExistenceCache.exists(customerId)).isFalse();
+
+        customerExistenceCache.onExistenceChanged(new CustomerExistenceChangedEvent(customerId, true));
+        assertThat(customerExistenceCache.exists(customerId)).isTrue();
+
+        customerExistenceCache.onExistenceChanged(new CustomerExistenceChangedEvent(customerId, false));
+        assertThat(customerExistenceCache.exists(customerId)).isFalse();
+        verify(customerRepository, times(1)).existsById(customerId);
+    }
+
+    @Test
+    void shouldNotCacheLookup_IfCustomerIsDeletedDuringLookup_WhenExists() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenAnswer(invocation -> {
+            customerExistenceCache.onExistenceChanged(new CustomerExistenceChangedEvent(customerId, false));
+            return true;
+        });
+
+        assertThat(customerExistenceCache.exists(customerId)).isTrue();
+        assertThat(customerExistenceCache.exists(customerId)).isFalse();
+        verify(customerRepository, times(1)).existsById(customerId);
+    }
+}
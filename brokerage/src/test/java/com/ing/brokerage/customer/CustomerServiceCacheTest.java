@@ -0,0 +1,92 @@
+package com.ing.brokerage.customer;
+
+import static com.ing.brokerage.constant.Constants.USERS_CACHE;
+import static com.ing.brokerage.customer.CustomerData.customerEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.config.CacheConfiguration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class CustomerServiceCacheTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private CustomerRepository customerRepository;
+
+    @MockitoBean
+    private CustomerExistenceCache customerExistenceCache;
+
+    @BeforeEach
+    void setUp() {
+
+        cacheManager.getCache(USERS_CACHE).clear();
+    }
+
+    @Test
+    void shouldCacheUserWithoutPassword_WhenGetUserByUsername() {
+
+        when(customerRepository.findCustomerByUsername("johndoe")).thenReturn(Optional.of(customerEntity()));
+
+        Optional<UserResponse> user = customerService.getUserByUsername("johndoe");
+        customerService.getUserByUsername("johndoe");
+
+        assertThat(user).get().extracting(UserResponse::getPassword).isNull();
+        verify(customerRepository, times(1)).findCustomerByUsername("johndoe");
+    }
+
+    @Test
+    void shouldReadPasswordEveryTime_WhenGetCredentialsByUsername() {
+
+        when(customerRepository.findCustomerByUsername("johndoe")).thenReturn(Optional.of(customerEntity()));
+
+        customerService.getCredentialsByUsername("johndoe");
+        Optional<UserResponse> credentials = customerService.getCredentialsByUsername("johndoe");
+
+        assertThat(credentials).get().extracting(UserResponse::getPassword).isEqualTo("encodedPassword");
+        verify(customerRepository, times(2)).findCustomerByUsername("johndoe");
+    }
+
+    @Test
+    void shouldEvictUsers_WhenDeleteCustomer() throws Exception {
+
+        CustomerEntity customerEntity = customerEntity();
+        when(customerRepository.findCustomerByUsername("johndoe")).thenReturn(Optional.of(customerEntity));
+        when(customerRepository.findById(customerEntity.getId())).thenReturn(Optional.of(customerEntity));
+
+        customerService.getUserByUsername("johndoe");
+        customerService.deleteCustomer(customerEntity.getId());
+        customerService.getUserByUsername("johndoe");
+
+        verify(customerRepository, times(2)).findCustomerByUsername("johndoe");
+    }
+
+    @Configuration
+    @Import({CacheConfiguration.class, CustomerService.class})
+    static class CacheTestConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new CaffeineCacheManager(USERS_CACHE);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +33,12 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerExistenceCache customerExistenceCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -145,12 +152,12 @@ class CustomerServiceTest {
     @Test
     void shouldCheckCustomerExists() {
 
-        when(customerRepository.existsById(any())).thenReturn(true);
+        when(customerExistenceCache.exists(any())).thenReturn(true);
 
         boolean exists = customerService.customerExists(UUID.randomUUID());
 
         assertThat(exists).isTrue();
-        verify(customerRepository).existsById(any());
+        verify(customerRepository, never()).existsById(any());
     }
 
     @Test
@@ -215,6 +222,40 @@ class CustomerServiceTest {
         assertThat(encodedPassword).startsWith("$2a$");
     }
 
+    @Test
+    void shouldRevokeTokens_IfPasswordChanges_WhenUpdateCustomer() throws Exception {
+
+        UUID customerId = UUID.randomUUID();
+        CustomerEntity customerEntity = customerEntity();
+        CustomerUpdateRequest updateRequest = new CustomerUpdateRequest();
+        updateRequest.setPassword("newPassword123");
+
+        when(customerRepository.findById(customerId)).thenReturn(Optional.of(customerEntity));
+        when(customerRepository.save(any(CustomerEntity.class))).thenReturn(customerEntity);
+
+        customerService.updateCustomer(customerId, updateRequest);
+
+        ArgumentCaptor<CustomerTokenRevokedEvent> captor = ArgumentCaptor.forClass(CustomerTokenRevokedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getCustomerId()).isEqualTo(customerId);
+        assertThat(captor.getValue().getTokenVersion()).isEqualTo(1);
+        assertThat(customerEntity.getTokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRevokeTokens_IfOnlyNameChanges_WhenUpdateCustomer() throws Exception {
+
+        CustomerUpdateRequest updateRequest = new CustomerUpdateRequest();
+        updateRequest.setName("John Updated");
+
+        when(customerRepository.findById(any())).thenReturn(Optional.of(customerEntity()));
+        when(customerRepository.save(any(CustomerEntity.class))).thenReturn(customerEntity());
+
+        customerService.updateCustomer(UUID.randomUUID(), updateRequest);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void shouldThrowException_IfCustomerNotFound_WhenUpdateCustomer() {
 
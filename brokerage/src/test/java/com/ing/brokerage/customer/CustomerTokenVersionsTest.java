@@ -0,0 +1,48 @@
+package com.ing.brokerage.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerTokenVersionsTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerExistenceCache customerExistenceCache;
+
+    @InjectMocks
+    private CustomerTokenVersions customerTokenVersions;
+
+    @Test
+    void shouldRejectToken_IfCustomerNoLongerExists_WhenIsCurrent() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.findRevokedTokenVersions()).thenReturn(List.of());
+        when(customerExistenceCache.exists(customerId)).thenReturn(false);
+        customerTokenVersions.afterPropertiesSet();
+
+        assertThat(customerTokenVersions.isCurrent(customerId, 0)).isFalse();
+    }
+
+    @Test
+    void shouldRejectOlderVersion_IfTokensAreRevoked_WhenIsCurrent() {
+
+        UUID customerId = UUID.randomUUID();
+        when(customerExistenceCache.exists(customerId)).thenReturn(true);
+
+        customerTokenVersions.onTokenRevoked(new CustomerTokenRevokedEvent(customerId, 2));
+
+        assertThat(customerTokenVersions.isCurrent(customerId, 1)).isFalse();
+        assertThat(customerTokenVersions.isCurrent(customerId, 2)).isTrue();
+    }
+}
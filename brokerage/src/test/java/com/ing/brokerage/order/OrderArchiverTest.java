@@ -0,0 +1,107 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+class OrderArchiverTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    private OrderReadModel orderReadModel;
+
+    private OrderArchiver orderArchiver;
+
+    @BeforeEach
+    void setUp() {
+
+        orderReadModel = new OrderReadModel(orderRepository, transactionManager, true, 100, new SimpleMeterRegistry());
+        orderArchiver = new OrderArchiver(new NamedParameterJdbcTemplate(jdbcTemplate), new TransactionTemplate(transactionManager),
+                                          orderReadModel, Duration.ofDays(90), Duration.ofHours(1), 2, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+
+        orderArchiver.destroy();
+    }
+
+    @Test
+    void shouldMoveOldTerminalOrdersToArchive_WhenArchive() {
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime old = OffsetDateTime.of(2025, 3, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+        orderRepository.insert(orderEvent(1L, OrderStatus.MATCHED, old));
+        orderRepository.insert(orderEvent(2L, OrderStatus.CANCELLED, old));
+        orderRepository.insert(orderEvent(3L, OrderStatus.EXPIRED, old));
+        orderRepository.insert(orderEvent(4L, OrderStatus.PENDING, old));
+        orderRepository.insert(orderEvent(5L, OrderStatus.MATCHED, now));
+        jdbcTemplate.update("insert into order_idempotency_key (customer_id, idempotency_key, order_id, created_at) values (?, ?, ?, ?)",
+                            CUSTOMER_ID, "key-1", 1L, old);
+        orderReadModel.load();
+
+        orderArchiver.archive();
+
+        assertThat(orderRepository.findAll(Sort.by("id"))).extracting(OrderEntity::getId).containsExactly(4L, 5L);
+        assertThat(jdbcTemplate.queryForList("select created_month from stock_order_archive order by id", Integer.class))
+            .containsExactly(202503, 202503, 202503);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_idempotency_key", Integer.class)).isZero();
+        assertThat(orderHistoryRepository.findAll(new OrderSpecification<OrderHistoryEntity>().customerIdEquals(CUSTOMER_ID),
+                                                  Sort.by("id")))
+            .extracting(OrderHistoryEntity::getId, OrderHistoryEntity::getOrderStatus)
+            .containsExactly(tuple(1L, OrderStatus.MATCHED),
+                             tuple(2L, OrderStatus.CANCELLED),
+                             tuple(3L, OrderStatus.EXPIRED),
+                             tuple(4L, OrderStatus.PENDING),
+                             tuple(5L, OrderStatus.MATCHED));
+        OrderSearchRequest searchRequest = new OrderSearchRequest();
+        searchRequest.setCustomerId(CUSTOMER_ID);
+        searchRequest.setDateRange(1000);
+        assertThat(orderReadModel.list(searchRequest, old.minusDays(1), PageRequest.of(0, 10, Sort.by("id"))))
+            .hasValueSatisfying(page -> assertThat(page).extracting(OrderResponse::getId).containsExactly(4L, 5L));
+    }
+
+    private static OrderEvent orderEvent(Long id, OrderStatus orderStatus, OffsetDateTime createdAt) {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setCustomerId(CUSTOMER_ID);
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(orderStatus);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OrderBookTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    private final OrderBook orderBook = new OrderBook("AAPL");
+
+    @Test
+    void shouldRestOrder_IfNoCounterOrder_WhenAdd() {
+
+        List<OrderBook.Match> matches = orderBook.add(order(1L, OrderSide.BUY, 150, 10, 0));
+
+        assertThat(matches).isEmpty();
+        assertThat(orderBook.contains(1L)).isTrue();
+    }
+
+    @Test
+    void shouldCrossOrders_IfPricesCross_WhenAdd() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 149, 10, 0));
+        OrderBook.BookOrder buyOrder = order(2L, OrderSide.BUY, 150, 10, 1);
+
+        List<OrderBook.Match> matches = orderBook.add(buyOrder);
+
+        assertThat(matches).singleElement()
+                           .extracting(OrderBook.Match::getBuyOrderId, OrderBook.Match::getSellOrderId)
+                           .containsExactly(2L, 1L);
+        assertThat(buyOrder.getUnfilledSize()).isZero();
+        assertThat(orderBook.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCrossOrders_IfPricesDoNotCross_WhenAdd() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 151, 10, 0));
+
+        List<OrderBook.Match> matches = orderBook.add(order(2L, OrderSide.BUY, 150, 10, 1));
+
+        assertThat(matches).isEmpty();
+        assertThat(orderBook.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPreferBestPriceThenEarliestOrder_WhenAdd() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 149, 10, 2));
+        orderBook.add(order(2L, OrderSide.SELL, 148, 10, 1));
+        orderBook.add(order(3L, OrderSide.SELL, 148, 10, 0));
+
+        List<OrderBook.Match> matches = orderBook.add(order(4L, OrderSide.BUY, 150, 10, 3));
+
+        assertThat(matches).extracting(OrderBook.Match::getSellOrderId).containsExactly(3L);
+    }
+
+    @Test
+    void shouldFillAcrossRestingOrders_IfIncomingOrderIsLarger_WhenAdd() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 148, 4, 0));
+        orderBook.add(order(2L, OrderSide.SELL, 149, 10, 1));
+        orderBook.add(order(3L, OrderSide.SELL, 151, 10, 2));
+        OrderBook.BookOrder buyOrder = order(4L, OrderSide.BUY, 150, 20, 3);
+
+        List<OrderBook.Match> matches = orderBook.add(buyOrder);
+
+        assertThat(matches).extracting(OrderBook.Match::getSellOrderId).containsExactly(1L, 2L);
+        assertThat(buyOrder.getUnfilledSize()).isEqualTo(FixedPoint.of(6));
+        assertThat(orderBook.contains(4L)).isTrue();
+
+        OrderBook.BookOrder sellOrder = order(5L, OrderSide.SELL, 150, 10, 4);
+        assertThat(orderBook.add(sellOrder)).extracting(OrderBook.Match::getBuyOrderId).containsExactly(4L);
+        assertThat(sellOrder.getUnfilledSize()).isEqualTo(FixedPoint.of(4));
+        assertThat(orderBook.contains(4L)).isFalse();
+        assertThat(orderBook.contains(5L)).isTrue();
+    }
+
+    @Test
+    void shouldSkipCounterOrders_IfSameCustomer_WhenAdd() {
+
+        UUID customerId = UUID.randomUUID();
+        orderBook.add(order(1L, customerId, OrderSide.BUY, 150, 10, 0));
+        orderBook.add(order(2L, OrderSide.BUY, 149, 10, 1));
+
+        List<OrderBook.Match> matches = orderBook.add(order(3L, customerId, OrderSide.SELL, 149, 10, 2));
+
+        assertThat(matches).extracting(OrderBook.Match::getBuyOrderId).containsExactly(2L);
+        assertThat(orderBook.contains(1L)).isTrue();
+    }
+
+    @Test
+    void shouldLowerUnfilledSize_WhenReduce() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 149, 10, 0));
+        orderBook.reduce(1L, FixedPoint.of(3));
+        orderBook.reduce(1L, FixedPoint.of(8));
+
+        OrderBook.BookOrder buyOrder = order(2L, OrderSide.BUY, 150, 10, 1);
+
+        assertThat(orderBook.add(buyOrder)).extracting(OrderBook.Match::getSellOrderId).containsExactly(1L);
+        assertThat(buyOrder.getUnfilledSize()).isEqualTo(FixedPoint.of(7));
+        assertThat(orderBook.contains(2L)).isTrue();
+    }
+
+    @Test
+    void shouldRemoveOrder_WhenRemove() {
+
+        orderBook.add(order(1L, OrderSide.SELL, 149, 10, 0));
+
+        assertThat(orderBook.remove(1L)).isTrue();
+        assertThat(orderBook.add(order(2L, OrderSide.BUY, 150, 10, 1))).isEmpty();
+    }
+
+    private static OrderBook.BookOrder order(Long id, OrderSide side, long price, long size, long secondsAfterNow) {
+
+        return order(id, UUID.randomUUID(), side, price, size, secondsAfterNow);
+    }
+
+    private static OrderBook.BookOrder order(Long id, UUID customerId, OrderSide side, long price, long size, long secondsAfterNow) {
+
+        return new OrderBook.BookOrder(id, customerId, side, FixedPoint.of(price), FixedPoint.of(size),
+                                       NOW.plusSeconds(secondsAfterNow));
+    }
+}
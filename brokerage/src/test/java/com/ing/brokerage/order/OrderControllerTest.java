@@ -0,0 +1,382 @@
+package com.ing.brokerage.order;
+import static com.ing.brokerage.order.OrderData.orderCreateRequest;
+import static com.ing.brokerage.order.OrderData.orderResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ing.brokerage.SecurityTestConfig;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.config.JwtService;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.config.UserSecurity;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.customer.CustomerTokenVersions;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(controllers = OrderController.class)
+@Import({SecurityTestConfig.class})
+class OrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @MockitoBean
+    private OrderSequencer orderSequencer;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private CustomerTokenVersions customerTokenVersions;
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @MockitoBean
+    private RejectionMetrics rejectionMetrics;
+
+    @MockitoBean
+    @Qualifier("customMessageResource")
+    private MessageSource messageSource;
+
+    @MockitoBean
+    private UserSecurity userSecurity;
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldCreateOrder() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        OrderCreateRequest request = orderCreateRequest();
+
+        OrderResponse response = orderResponse();
+        when(orderSequencer.createOrder(any(OrderCreateRequest.class), any())).thenReturn(response);
+
+        mockMvc.perform(post("/v1/orders")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isCreated())
+               .andExpect(jsonPath("$.id").value(1))
+               .andExpect(jsonPath("$.customerId").value(response.getCustomerId().toString()))
+               .andExpect(jsonPath("$.assetName").value(response.getAssetName()))
+               .andExpect(jsonPath("$.orderSide").value(response.getOrderSide().name()))
+               .andExpect(jsonPath("$.orderStatus").value(response.getOrderStatus().name()));
+
+        verify(orderSequencer).createOrder(any(OrderCreateRequest.class), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldPassIdempotencyKey_IfHeaderIsGiven_WhenCreateOrder() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        when(orderSequencer.createOrder(any(OrderCreateRequest.class), eq("retry-1"))).thenReturn(orderResponse());
+
+        mockMvc.perform(post("/v1/orders")
+                            .with(csrf())
+                            .header(OrderController.IDEMPOTENCY_KEY, "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(orderCreateRequest())))
+               .andExpect(status().isCreated())
+               .andExpect(jsonPath("$.id").value(1));
+
+        verify(orderSequencer).createOrder(any(OrderCreateRequest.class), eq("retry-1"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnBadRequest_IfCustomerNotFound_WhenCreateOrder() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        when(orderSequencer.createOrder(any(OrderCreateRequest.class), any()))
+            .thenThrow(new RecordNotFoundException(ExceptionConstants.CUSTOMER_NOT_FOUND));
+
+        mockMvc.perform(post("/v1/orders")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(orderCreateRequest())))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldCreateOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdminForAll(any(), any())).thenReturn(true);
+        OrderBatchCreateRequest request = new OrderBatchCreateRequest();
+        request.setOrders(List.of(orderCreateRequest(), orderCreateRequest()));
+
+        OrderBatchItemResponse created = new OrderBatchItemResponse();
+        created.setIndex(0);
+        created.setOrder(orderResponse());
+        OrderBatchItemResponse rejected = new OrderBatchItemResponse();
+        rejected.setIndex(1);
+        rejected.setError(ExceptionConstants.INSUFFICIENT_ASSET);
+        when(orderSequencer.createOrders(any(OrderBatchCreateRequest.class))).thenReturn(List.of(created, rejected));
+
+        mockMvc.perform(post("/v1/orders/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[0].order.id").value(1))
+               .andExpect(jsonPath("$[1].index").value(1))
+               .andExpect(jsonPath("$[1].error").value(ExceptionConstants.INSUFFICIENT_ASSET));
+
+        verify(orderSequencer).createOrders(any(OrderBatchCreateRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnUnauthorized_IfNotSelfForAllOrders_WhenCreateOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdminForAll(any(), any())).thenReturn(false);
+        OrderBatchCreateRequest request = new OrderBatchCreateRequest();
+        request.setOrders(List.of(orderCreateRequest()));
+
+        mockMvc.perform(post("/v1/orders/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldMatchOrder() throws Exception {
+
+        Long orderId = 1L;
+        OrderResponse response = orderResponse();
+        response.setId(orderId);
+        response.setOrderStatus(OrderStatus.MATCHED);
+
+        when(orderSequencer.matchOrder(orderId, null)).thenReturn(response);
+
+        mockMvc.perform(patch("/v1/orders/{orderId}", orderId)
+                            .with(csrf()))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(orderId))
+               .andExpect(jsonPath("$.orderStatus").value("MATCHED"));
+
+        verify(orderSequencer).matchOrder(orderId, null);
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldUnauthorized_IfNotAdmin_WhenMatchOrder() throws Exception {
+
+        mockMvc.perform(patch("/v1/orders/{orderId}", 1L)
+                            .with(csrf()))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldCancelOrder() throws Exception {
+
+        Long orderId = 1L;
+        OrderResponse response = orderResponse();
+        response.setId(orderId);
+        response.setOrderStatus(OrderStatus.CANCELLED);
+
+        when(orderSequencer.cancelOrder(orderId)).thenReturn(response);
+
+        mockMvc.perform(delete("/v1/orders/{orderId}", orderId)
+                            .with(csrf()))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(orderId))
+               .andExpect(jsonPath("$.orderStatus").value("CANCELLED"));
+
+        verify(orderSequencer).cancelOrder(orderId);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnNotFound_IfOrderNotExists_WhenCancelOrder() throws Exception {
+
+        Long orderId = 999L;
+
+        when(orderSequencer.cancelOrder(orderId))
+            .thenThrow(new RecordNotFoundException(ExceptionConstants.ORDER_NOT_FOUND));
+
+        mockMvc.perform(delete("/v1/orders/{orderId}", orderId)
+                            .with(csrf()))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnUnauthorized_IfNotAdmin_WhenCancelOrder() throws Exception {
+
+        mockMvc.perform(delete("/v1/orders/{orderId}", 1L)
+                            .with(csrf()))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldListOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        OrderResponse order = orderResponse();
+        when(orderService.listOrders(any(OrderSearchRequest.class), any()))
+            .thenReturn(new PageImpl<>(List.of(order), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/v1/orders")
+                            .param("customerId", order.getCustomerId().toString())
+                            .param("startDate", LocalDate.now().toString())
+                            .param("dateRange", "30")
+                            .param("page", "0")
+                            .param("size", "10"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(1))
+               .andExpect(jsonPath("$.content[0].customerId").value(order.getCustomerId().toString()))
+               .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(orderService).listOrders(any(OrderSearchRequest.class), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnOk_IfAdminRequestsAnyCustomer_WhenListOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+
+        UUID customerId = UUID.randomUUID();
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+
+        when(orderService.listOrders(any(OrderSearchRequest.class), any()))
+            .thenReturn(new PageImpl<>(List.of(response)));
+
+        mockMvc.perform(get("/v1/orders")
+                            .param("customerId", customerId.toString())
+                            .param("startDate", LocalDate.now().toString())
+                            .param("dateRange", "30"))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldStreamOrders_WhenExportOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        // the body is written once the initial dispatch has left the filter chain, as it is on a real connection
+        CountDownLatch dispatched = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            dispatched.await();
+            invocation.getArgument(2, OutputStream.class).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(orderService).exportOrders(any(OrderSearchRequest.class), eq(OrderExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/v1/orders/export")
+                                               .param("customerId", UUID.randomUUID().toString())
+                                               .param("startDate", LocalDate.now().toString())
+                                               .param("dateRange", "30")
+                                               .param("format", "CSV"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+        dispatched.countDown();
+
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isOk())
+               .andExpect(content().contentType("text/csv"))
+               .andExpect(content().string("id\n1\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnBadRequest_IfSearchIsInvalid_WhenExportOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+
+        mockMvc.perform(get("/v1/orders/export")
+                            .param("customerId", UUID.randomUUID().toString()))
+               .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).exportOrders(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldScrollOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+        OrderResponse order = orderResponse();
+        when(orderService.scrollOrders(any(OrderSearchRequest.class), any(CursorRequest.class)))
+            .thenReturn(new CursorPage<>(List.of(order), "next", true));
+
+        mockMvc.perform(get("/v1/orders/scroll")
+                            .param("customerId", order.getCustomerId().toString())
+                            .param("startDate", LocalDate.now().toString())
+                            .param("dateRange", "30")
+                            .param("cursor", "previous")
+                            .param("size", "1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(1))
+               .andExpect(jsonPath("$.nextCursor").value("next"))
+               .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(orderService).scrollOrders(any(OrderSearchRequest.class), any(CursorRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void shouldReturnBadRequest_IfSizeIsEmpty_WhenScrollOrders() throws Exception {
+
+        when(userSecurity.isSelfOrAdmin(any(), any())).thenReturn(true);
+
+        mockMvc.perform(get("/v1/orders/scroll")
+                            .param("customerId", UUID.randomUUID().toString())
+                            .param("startDate", LocalDate.now().toString())
+                            .param("dateRange", "30")
+                            .param("size", ""))
+               .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).scrollOrders(any(), any());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ing.brokerage.order;
 
+import com.ing.brokerage.base.decimal.FixedPoint;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -14,8 +15,8 @@ public class OrderData {
         orderEntity.setCustomerId(UUID.randomUUID());
         orderEntity.setAssetName("AAPL");
         orderEntity.setOrderSide(OrderSide.BUY);
-        orderEntity.setSize(BigDecimal.TEN);
-        orderEntity.setPrice(BigDecimal.valueOf(150));
+        orderEntity.setSize(FixedPoint.of(10));
+        orderEntity.setPrice(FixedPoint.of(150));
         orderEntity.setOrderStatus(OrderStatus.PENDING);
         return orderEntity;
     }
@@ -0,0 +1,105 @@
+package com.ing.brokerage.order;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+class OrderExpirySchedulerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private OrderSequencer orderSequencer;
+
+    private OrderExpiryScheduler orderExpiryScheduler;
+
+    @BeforeEach
+    void setUp() {
+
+        orderExpiryScheduler = new OrderExpiryScheduler(orderSequencer, jdbcTemplate, Duration.ofSeconds(1), 500,
+                                                        new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+
+        orderExpiryScheduler.destroy();
+    }
+
+    @Test
+    void shouldExpireDueOrders_IfLoadedFromOrderTable_WhenExpire() throws Exception {
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        orderRepository.insert(orderEvent(1L, now.minusSeconds(5)));
+        orderRepository.insert(orderEvent(2L, now.plusHours(1)));
+        when(orderSequencer.expireOrders(anyList())).thenReturn(1);
+
+        orderExpiryScheduler.load();
+        orderExpiryScheduler.expire();
+
+        verify(orderSequencer).expireOrders(List.of(1L));
+    }
+
+    @Test
+    void shouldExpireCreatedOrder_WhenOnOrderEvent() throws Exception {
+
+        OrderEvent event = orderEvent(3L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+        event.setEventType(OrderEventType.CREATED);
+
+        orderExpiryScheduler.onOrderEvent(event);
+        orderExpiryScheduler.expire();
+
+        verify(orderSequencer).expireOrders(List.of(3L));
+    }
+
+    @Test
+    void shouldExpireOrderOnLaterTurn_IfExpiryFailsOnce_WhenExpire() throws Exception {
+
+        OrderEvent event = orderEvent(4L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+        event.setEventType(OrderEventType.CREATED);
+        when(orderSequencer.expireOrders(List.of(4L))).thenThrow(new IllegalStateException("Lock timeout")).thenReturn(1);
+
+        orderExpiryScheduler.onOrderEvent(event);
+        orderExpiryScheduler.expire();
+        orderExpiryScheduler.expire(System.currentTimeMillis() + Duration.ofSeconds(5).toMillis());
+
+        verify(orderSequencer, times(2)).expireOrders(List.of(4L));
+    }
+
+    private static OrderEvent orderEvent(Long id, OffsetDateTime expiresAt) {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setCustomerId(UUID.randomUUID());
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(OrderStatus.PENDING);
+        event.setCreatedAt(expiresAt.minusDays(1));
+        event.setTimeInForce(TimeInForce.GTD);
+        event.setExpiresAt(expiresAt);
+        return event;
+    }
+}
@@ -0,0 +1,118 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.order.OrderData.orderCreateRequest;
+import static com.ing.brokerage.order.OrderData.orderEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderIdempotency orderIdempotency;
+
+    @BeforeEach
+    void setUp() {
+
+        orderIdempotency = new OrderIdempotency(jdbcTemplate, orderRepository, 100);
+    }
+
+    @Test
+    void shouldThrowException_IfKeyIsInvalid_WhenFind() {
+
+        String tooLong = "k".repeat(65);
+
+        for (String key : List.of("", "with space", tooLong)) {
+            BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                           () -> orderIdempotency.find(orderCreateRequest(), key));
+            Assertions.assertEquals(ExceptionConstants.INVALID_IDEMPOTENCY_KEY, ex.getMessageKey());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnEmpty_IfKeyIsUnknown_WhenFind() throws Exception {
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), eq("retry-1"))).thenReturn(List.of());
+
+        assertThat(orderIdempotency.find(orderCreateRequest(), "retry-1")).isEmpty();
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLoadStoredOrderOnce_IfKeyIsNotCached_WhenFind() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        OrderCreateRequest request = orderCreateRequest();
+        request.setCustomerId(orderEntity.getCustomerId());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(request.getCustomerId()), eq("retry-1")))
+            .thenReturn(List.of(orderEntity.getId()));
+        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+
+        assertThat(orderIdempotency.find(request, "retry-1")).get().extracting(OrderResponse::getId).isEqualTo(1L);
+        assertThat(orderIdempotency.find(request, "retry-1")).isPresent();
+        verify(orderRepository, times(1)).findById(orderEntity.getId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldThrowException_IfKeyWasUsedForAnotherOrder_WhenFind() {
+
+        OrderEntity orderEntity = orderEntity();
+        OrderCreateRequest request = orderCreateRequest();
+        request.setCustomerId(orderEntity.getCustomerId());
+        request.setSize(BigDecimal.ONE);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(List.of(orderEntity.getId()));
+        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class, () -> orderIdempotency.find(request, "retry-1"));
+        Assertions.assertEquals(ExceptionConstants.IDEMPOTENCY_KEY_REUSED, ex.getMessageKey());
+    }
+
+    @Test
+    void shouldCacheResponse_IfTransactionCommits_WhenSave() throws Exception {
+
+        OrderCreateRequest request = orderCreateRequest();
+        OrderResponse response = OrderData.orderResponse();
+        response.setCustomerId(request.getCustomerId());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderIdempotency.save("retry-1", response);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(orderIdempotency.find(request, "retry-1")).contains(response);
+        verify(jdbcTemplate).update(anyString(), eq(request.getCustomerId()), eq("retry-1"), eq(1L), any());
+    }
+}
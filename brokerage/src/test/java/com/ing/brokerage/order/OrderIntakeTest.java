@@ -0,0 +1,143 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.order.OrderData.orderCreateRequest;
+import static com.ing.brokerage.order.OrderData.orderResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import com.ing.brokerage.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeTest {
+
+    @Mock
+    private OrderSequencer orderSequencer;
+
+    @Mock
+    private OrderIdAllocator orderIdAllocator;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Mock
+    private CustomerService customerService;
+
+    private OrderIntake orderIntake;
+
+    @BeforeEach
+    void setUp() {
+
+        orderIntake = new OrderIntake(orderSequencer, orderIdAllocator, orderRepository, orderHistoryRepository, customerService,
+                                      Validation.buildDefaultValidatorFactory().getValidator(), 1, 1, 8, 100,
+                                      new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+
+        orderIntake.destroy();
+    }
+
+    @Test
+    void shouldCreateQueuedOrder_WhenSubmit() throws Exception {
+
+        OrderCreateRequest request = orderCreateRequest();
+        OrderBatchItemResponse item = new OrderBatchItemResponse();
+        item.setIndex(0);
+        item.setOrder(orderResponse());
+        when(customerService.customerExists(request.getCustomerId())).thenReturn(true);
+        when(orderIdAllocator.nextId()).thenReturn(7L);
+        when(orderSequencer.createOrders(eq(request.getCustomerId()), eq(List.of(request)), eq(List.of(7L))))
+            .thenReturn(List.of(item));
+
+        OrderIntakeResponse queued = orderIntake.submit(request);
+        assertThat(queued.getId()).isEqualTo(7L);
+        assertThat(queued.getStatus()).isEqualTo(OrderIntakeStatus.QUEUED);
+
+        orderIntake.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (orderIntake.getStatus(7L).getStatus() == OrderIntakeStatus.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        OrderIntakeResponse created = orderIntake.getStatus(7L);
+        assertThat(created.getStatus()).isEqualTo(OrderIntakeStatus.CREATED);
+        assertThat(created.getCustomerId()).isEqualTo(request.getCustomerId());
+        assertThat(created.getOrder()).isSameAs(item.getOrder());
+    }
+
+    @Test
+    void shouldReturnCreatedOrder_IfOrderIsArchived_WhenGetStatus() throws Exception {
+
+        OrderHistoryEntity archived = mock(OrderHistoryEntity.class);
+        when(archived.getId()).thenReturn(9L);
+        when(archived.getCustomerId()).thenReturn(orderCreateRequest().getCustomerId());
+        when(orderRepository.findById(9L)).thenReturn(Optional.empty());
+        when(orderHistoryRepository.findById(9L)).thenReturn(Optional.of(archived));
+
+        OrderIntakeResponse response = orderIntake.getStatus(9L);
+
+        assertThat(response.getStatus()).isEqualTo(OrderIntakeStatus.CREATED);
+        assertThat(response.getCustomerId()).isEqualTo(archived.getCustomerId());
+        assertThat(response.getOrder().getId()).isEqualTo(9L);
+    }
+
+    @Test
+    void shouldThrowException_IfQueueIsFull_WhenSubmit() throws Exception {
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(orderIdAllocator.nextId()).thenReturn(7L, 8L);
+        when(orderRepository.findById(8L)).thenReturn(Optional.empty());
+
+        orderIntake.submit(orderCreateRequest());
+
+        assertThatThrownBy(() -> orderIntake.submit(orderCreateRequest()))
+            .isInstanceOf(TooManyRequestsException.class)
+            .hasFieldOrPropertyWithValue("messageKey", ExceptionConstants.ORDER_INTAKE_FULL);
+        assertThatThrownBy(() -> orderIntake.getStatus(8L)).isInstanceOf(RecordNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowException_IfRequestIsInvalid_WhenSubmit() {
+
+        OrderCreateRequest request = orderCreateRequest();
+        request.setPrice(null);
+
+        assertThatThrownBy(() -> orderIntake.submit(request)).isInstanceOf(ConstraintViolationException.class);
+        verify(orderIdAllocator, never()).nextId();
+    }
+
+    @Test
+    void shouldThrowException_IfCustomerNotFound_WhenSubmit() {
+
+        when(customerService.customerExists(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> orderIntake.submit(orderCreateRequest()))
+            .isInstanceOf(RecordNotFoundException.class)
+            .hasFieldOrPropertyWithValue("messageKey", ExceptionConstants.CUSTOMER_NOT_FOUND);
+        verify(orderIdAllocator, never()).nextId();
+    }
+}
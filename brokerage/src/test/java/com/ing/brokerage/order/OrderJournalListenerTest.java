@@ -0,0 +1,110 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+class OrderJournalListenerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private OrderSequencer orderSequencer;
+
+    private OrderJournalListener orderJournalListener;
+
+    @BeforeEach
+    void setUp() {
+
+        orderJournalListener = new OrderJournalListener(orderRepository, orderSequencer, jdbcTemplate);
+        ReflectionTestUtils.setField(orderJournalListener, "directory", directory);
+        ReflectionTestUtils.setField(orderJournalListener, "segmentSize", 1L << 20);
+        ReflectionTestUtils.setField(orderJournalListener, "replayOnStartup", true);
+        orderJournalListener.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        orderJournalListener.destroy();
+    }
+
+    @Test
+    void shouldReplayThroughSequencer_IfNoOrdersExist_WhenReplayOnStartup() throws Exception {
+
+        orderJournalListener.onOrderEvent(orderEvent(1L, OrderStatus.PENDING, OffsetDateTime.now(ZoneOffset.UTC)));
+
+        orderJournalListener.replayOnStartup();
+
+        verify(orderSequencer).replay(argThat(event -> event.getId() == 1L));
+    }
+
+    @Test
+    void shouldNotReplay_IfAllOrdersAreArchived_WhenReplayOnStartup() throws Exception {
+
+        OrderEvent event = orderEvent(1L, OrderStatus.MATCHED, OffsetDateTime.of(2025, 3, 15, 10, 0, 0, 0, ZoneOffset.UTC));
+        orderRepository.insert(event);
+        orderJournalListener.onOrderEvent(event);
+        OrderArchiver orderArchiver = new OrderArchiver(new NamedParameterJdbcTemplate(jdbcTemplate),
+                                                        new TransactionTemplate(transactionManager), mock(OrderReadModel.class),
+                                                        Duration.ofDays(90), Duration.ofHours(1), 10, new SimpleMeterRegistry());
+        try {
+            orderArchiver.archive();
+        } finally {
+            orderArchiver.destroy();
+        }
+        assertThat(orderRepository.count()).isZero();
+
+        orderJournalListener.replayOnStartup();
+
+        verifyNoInteractions(orderSequencer);
+    }
+
+    private static OrderEvent orderEvent(Long id, OrderStatus orderStatus, OffsetDateTime createdAt) {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setEventType(OrderStatus.PENDING.equals(orderStatus) ? OrderEventType.CREATED : OrderEventType.MATCHED);
+        event.setCustomerId(UUID.randomUUID());
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(orderStatus);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
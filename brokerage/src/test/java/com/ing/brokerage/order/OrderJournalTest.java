@@ -0,0 +1,155 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderJournalTest {
+
+    private static final int RECORD_SIZE = OrderJournal.recordSize("AAPL".length());
+
+    private static final long SEGMENT_SIZE = OrderJournal.HEADER_SIZE + 4L * RECORD_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReadAppendedEvents_WhenForEach() {
+
+        OrderEvent event = event(1L, OrderEventType.CREATED, OrderStatus.PENDING);
+        event.setFillPrice(null);
+        OrderEvent matched = event(1L, OrderEventType.MATCHED, OrderStatus.MATCHED);
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            journal.append(event);
+            journal.append(matched);
+
+            List<OrderEvent> events = read(journal);
+
+            assertThat(events).extracting(OrderEvent::getEventType).containsExactly(OrderEventType.CREATED, OrderEventType.MATCHED);
+            assertThat(events.getFirst()).usingRecursiveComparison().isEqualTo(event);
+            assertThat(events.getLast().getFillPrice()).isEqualTo(1_400_000L);
+        }
+    }
+
+    @Test
+    void shouldContinueAfterLastRecord_IfReopened_WhenAppend() {
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, true)) {
+            journal.append(event(1L, OrderEventType.CREATED, OrderStatus.PENDING));
+        }
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            journal.append(event(2L, OrderEventType.CREATED, OrderStatus.PENDING));
+
+            assertThat(read(journal)).extracting(OrderEvent::getId).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    void shouldRollOverToNextSegment_IfSegmentIsFull_WhenAppend() throws IOException {
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            for (long id = 1; id <= 10; id++) {
+                journal.append(event(id, OrderEventType.CREATED, OrderStatus.PENDING));
+            }
+
+            assertThat(read(journal)).extracting(OrderEvent::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments).hasSize(3);
+        }
+    }
+
+    @Test
+    void shouldStopAtTornRecord_WhenForEach() throws IOException {
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            journal.append(event(1L, OrderEventType.CREATED, OrderStatus.PENDING));
+            journal.append(event(2L, OrderEventType.CREATED, OrderStatus.PENDING));
+        }
+        try (Stream<Path> segments = Files.list(directory);
+             RandomAccessFile file = new RandomAccessFile(segments.findFirst().orElseThrow().toFile(), "rw")) {
+            file.seek(OrderJournal.HEADER_SIZE + RECORD_SIZE + 10L);
+            file.write(0x7F);
+        }
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            assertThat(read(journal)).extracting(OrderEvent::getId).containsExactly(1L);
+
+            journal.append(event(3L, OrderEventType.CREATED, OrderStatus.PENDING));
+
+            assertThat(read(journal)).extracting(OrderEvent::getId).containsExactly(1L, 3L);
+        }
+    }
+
+    @Test
+    void shouldReadEvent_IfAssetNameIsLong_WhenForEach() {
+
+        OrderEvent event = event(1L, OrderEventType.CREATED, OrderStatus.PENDING);
+        event.setAssetName("Ünlü Varlık Yatırım Ortaklığı A.Ş.");
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_SIZE, false)) {
+            journal.append(event);
+
+            assertThat(read(journal)).singleElement().usingRecursiveComparison().isEqualTo(event);
+        }
+    }
+
+    @Test
+    void shouldThrowException_IfSegmentHeaderIsInvalid_WhenOpen() throws IOException {
+
+        Files.write(directory.resolve(String.format("orders-v%d-0000000000000000.journal", OrderJournal.VERSION)), new byte[64]);
+        Files.write(directory.resolve(String.format("orders-v%d-0000000000000001.journal", OrderJournal.VERSION)),
+                    ByteBuffer.allocate(64).putInt(0x12345678).array());
+
+        assertThatThrownBy(() -> new OrderJournal(directory, SEGMENT_SIZE, false)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldThrowException_IfSegmentFormatIsNewer_WhenOpen() throws IOException {
+
+        Files.write(directory.resolve(String.format("orders-v%d-0000000000000000.journal", OrderJournal.VERSION + 1)), new byte[64]);
+
+        assertThatThrownBy(() -> new OrderJournal(directory, SEGMENT_SIZE, false)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<OrderEvent> read(OrderJournal journal) {
+
+        List<OrderEvent> events = new ArrayList<>();
+        journal.forEach(events::add);
+        return events;
+    }
+
+    private static OrderEvent event(Long id, OrderEventType eventType, OrderStatus orderStatus) {
+
+        OrderEvent event = new OrderEvent();
+        event.setEventType(eventType);
+        event.setId(id);
+        event.setCustomerId(UUID.randomUUID());
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.SELL);
+        event.setSize(105_000L);
+        event.setPrice(1_501_234L);
+        event.setOrderStatus(orderStatus);
+        event.setFilledSize(35_000L);
+        event.setFillPrice(1_400_000L);
+        event.setCreatedAt(OffsetDateTime.of(2025, 11, 9, 10, 15, 30, 123456000, ZoneOffset.UTC));
+        event.setTimeInForce(TimeInForce.GTD);
+        event.setExpiresAt(OffsetDateTime.of(2025, 11, 10, 18, 0, 0, 500000000, ZoneOffset.UTC));
+        return event;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ing.brokerage.order;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OrderMatchingEngineTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderSequencer orderSequencer;
+
+    @Mock
+    private RejectionMetrics rejectionMetrics;
+
+    private OrderMatchingEngine orderMatchingEngine;
+
+    @BeforeEach
+    void setUp() {
+
+        orderMatchingEngine = new OrderMatchingEngine(orderRepository, orderSequencer, rejectionMetrics);
+        ReflectionTestUtils.setField(orderMatchingEngine, "maxUnmatchableOrders", 10);
+    }
+
+    @Test
+    void shouldSettleEachFillInPriceTimePriority_IfSizesDiffer_WhenOrderEvent() throws Exception {
+
+        when(orderRepository.findAllByOrderStatusIn(OrderStatus.OPEN))
+            .thenReturn(List.of(orderEntity(1L, OrderSide.SELL, 145, 10, 0), orderEntity(2L, OrderSide.SELL, 140, 4, 1)));
+
+        orderMatchingEngine.loadBooks();
+        orderMatchingEngine.onOrderEvent(orderEvent(3L, OrderSide.BUY, 150, 8, 2));
+        orderMatchingEngine.onOrderEvent(orderEvent(4L, OrderSide.BUY, 150, 10, 3));
+        orderMatchingEngine.destroy();
+
+        InOrder matches = inOrder(orderSequencer);
+        matches.verify(orderSequencer).matchOrders(3L, 2L);
+        matches.verify(orderSequencer).matchOrders(3L, 1L);
+        matches.verify(orderSequencer).matchOrders(4L, 1L);
+        matches.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void shouldLeaveOrdersOutOfBook_IfSettlementFails_WhenOrderEvent() throws Exception {
+
+        OrderEntity sellOrder = orderEntity(1L, OrderSide.SELL, 140, 10, 0);
+        OrderEntity buyOrder = orderEntity(2L, OrderSide.BUY, 150, 10, 1);
+        when(orderRepository.findAllByOrderStatusIn(OrderStatus.OPEN)).thenReturn(List.of(sellOrder));
+        when(orderRepository.findAllByAssetNameAndOrderStatusIn("AAPL", OrderStatus.OPEN)).thenReturn(List.of(sellOrder, buyOrder));
+        doThrow(new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET)).when(orderSequencer).matchOrders(2L, 1L);
+
+        orderMatchingEngine.loadBooks();
+        orderMatchingEngine.onOrderEvent(orderEvent(2L, OrderSide.BUY, 150, 10, 1));
+        orderMatchingEngine.onOrderEvent(orderEvent(3L, OrderSide.SELL, 150, 5, 2));
+        orderMatchingEngine.destroy();
+
+        verify(rejectionMetrics).increment(ExceptionConstants.INSUFFICIENT_ASSET);
+        verify(orderSequencer, never()).matchOrders(2L, 3L);
+    }
+
+    @Test
+    void shouldCrossOldestUnmatchableOrderAgain_IfMoreOrdersAreUnmatchableThanKept_WhenOrderEvent() throws Exception {
+
+        ReflectionTestUtils.setField(orderMatchingEngine, "maxUnmatchableOrders", 1);
+        OrderEntity sellOrder = orderEntity(1L, OrderSide.SELL, 140, 10, 0);
+        OrderEntity buyOrder = orderEntity(2L, OrderSide.BUY, 150, 10, 1);
+        when(orderRepository.findAllByOrderStatusIn(OrderStatus.OPEN)).thenReturn(List.of(sellOrder));
+        when(orderRepository.findAllByAssetNameAndOrderStatusIn("AAPL", OrderStatus.OPEN)).thenReturn(List.of(sellOrder, buyOrder));
+        doThrow(new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET)).when(orderSequencer).matchOrders(2L, 1L);
+
+        orderMatchingEngine.loadBooks();
+        orderMatchingEngine.onOrderEvent(orderEvent(2L, OrderSide.BUY, 150, 10, 1));
+        orderMatchingEngine.onOrderEvent(orderEvent(3L, OrderSide.SELL, 150, 5, 2));
+        orderMatchingEngine.destroy();
+
+        verify(orderSequencer).matchOrders(2L, 3L);
+    }
+
+    @Test
+    void shouldStopMatchingAsset_IfReloadsKeepFailing_WhenOrderEvent() throws Exception {
+
+        ReflectionTestUtils.setField(orderMatchingEngine, "maxUnmatchableOrders", 0);
+        OrderEntity sellOrder = orderEntity(1L, OrderSide.SELL, 140, 10, 0);
+        OrderEntity buyOrder = orderEntity(2L, OrderSide.BUY, 150, 10, 1);
+        when(orderRepository.findAllByOrderStatusIn(OrderStatus.OPEN)).thenReturn(List.of(sellOrder));
+        when(orderRepository.findAllByAssetNameAndOrderStatusIn("AAPL", OrderStatus.OPEN)).thenReturn(List.of(sellOrder, buyOrder));
+        doThrow(new BusinessException(ExceptionConstants.INSUFFICIENT_ASSET)).when(orderSequencer).matchOrders(2L, 1L);
+
+        orderMatchingEngine.loadBooks();
+        orderMatchingEngine.onOrderEvent(orderEvent(2L, OrderSide.BUY, 150, 10, 1));
+        orderMatchingEngine.onOrderEvent(orderEvent(3L, OrderSide.SELL, 150, 5, 2));
+        orderMatchingEngine.destroy();
+
+        verify(orderSequencer, times(11)).matchOrders(2L, 1L);
+        verify(orderSequencer, never()).matchOrders(2L, 3L);
+    }
+
+    private static OrderEntity orderEntity(Long id, OrderSide orderSide, long price, long size, int arrival) {
+
+        OrderEntity orderEntity = new OrderEntity();
+        orderEntity.setId(id);
+        orderEntity.setCustomerId(UUID.randomUUID());
+        orderEntity.setAssetName("AAPL");
+        orderEntity.setOrderSide(orderSide);
+        orderEntity.setPrice(FixedPoint.of(price));
+        orderEntity.setSize(FixedPoint.of(size));
+        orderEntity.setOrderStatus(OrderStatus.PENDING);
+        orderEntity.setCreatedAt(NOW.plusSeconds(arrival));
+        return orderEntity;
+    }
+
+    private static OrderEvent orderEvent(Long id, OrderSide orderSide, long price, long size, int arrival) {
+
+        return OrderMapper.INSTANCE.toEvent(orderEntity(id, orderSide, price, size, arrival), OrderEventType.CREATED);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+class OrderReadModelTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private static final OffsetDateTime START = OffsetDateTime.of(2026, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private OrderReadModel orderReadModel;
+
+    @BeforeEach
+    void setUp() {
+
+        orderReadModel = new OrderReadModel(orderRepository, transactionManager, true, 2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldListNothing_IfNotLoaded_WhenList() {
+
+        orderReadModel.onOrderEvent(orderEvent(1L, CUSTOMER_ID, "AAPL", OrderStatus.PENDING, START.plusHours(1)));
+
+        assertThat(orderReadModel.list(searchRequest(CUSTOMER_ID), START, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void shouldListOrdersOfCustomerInRange_WhenList() {
+
+        orderRepository.insert(orderEvent(1L, CUSTOMER_ID, "AAPL", OrderStatus.PENDING, START.plusHours(1)));
+        orderRepository.insert(orderEvent(2L, CUSTOMER_ID, "MSFT", OrderStatus.PENDING, START.plusHours(2)));
+        orderRepository.insert(orderEvent(3L, CUSTOMER_ID, "AAPL", OrderStatus.CANCELLED, START.plusHours(3)));
+        orderRepository.insert(orderEvent(4L, CUSTOMER_ID, "AAPL", OrderStatus.PENDING, START.plusDays(2)));
+        orderRepository.insert(orderEvent(5L, UUID.randomUUID(), "AAPL", OrderStatus.PENDING, START.plusHours(1)));
+        orderRepository.insert(orderEvent(6L, CUSTOMER_ID, "AAPL", OrderStatus.PENDING, START.minusHours(1)));
+        orderReadModel.load();
+
+        OrderSearchRequest searchRequest = searchRequest(CUSTOMER_ID);
+        searchRequest.setAssetName("AAPL");
+        Page<OrderResponse> page = orderReadModel.list(searchRequest, START, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")))
+                                                 .orElseThrow();
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(OrderResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    void shouldReplaceOrder_WhenOrderEvent() {
+
+        orderRepository.insert(orderEvent(1L, CUSTOMER_ID, "AAPL", OrderStatus.PENDING, START.plusHours(2)));
+        orderReadModel.load();
+
+        orderReadModel.onOrderEvent(orderEvent(2L, CUSTOMER_ID, "MSFT", OrderStatus.PENDING, START.plusHours(1)));
+        orderReadModel.onOrderEvent(orderEvent(1L, CUSTOMER_ID, "AAPL", OrderStatus.MATCHED, START.plusHours(2)));
+
+        assertThat(orderReadModel.list(searchRequest(CUSTOMER_ID), START, PageRequest.of(0, 10)).orElseThrow())
+            .extracting(OrderResponse::getId, OrderResponse::getOrderStatus)
+            .containsExactly(tuple(2L, OrderStatus.PENDING),
+                             tuple(1L, OrderStatus.MATCHED));
+    }
+
+    @Test
+    void shouldListNothing_IfSortedByUnknownProperty_WhenList() {
+
+        orderReadModel.load();
+
+        assertThat(orderReadModel.list(searchRequest(CUSTOMER_ID), START, PageRequest.of(0, 10, Sort.by("customer.name")))).isEmpty();
+    }
+
+    @Test
+    void shouldNotListOrder_IfRemoved_WhenList() {
+
+        orderReadModel.load();
+        orderReadModel.onOrderEvent(orderEvent(1L, CUSTOMER_ID, "AAPL", OrderStatus.MATCHED, START.plusHours(1)));
+
+        orderReadModel.remove(CUSTOMER_ID, 1L);
+
+        assertThat(orderReadModel.list(searchRequest(CUSTOMER_ID), START, PageRequest.of(0, 10)).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotAddOrder_IfRemovedDuringLoad_WhenLoad() {
+
+        OrderEntity archived = OrderData.orderEntity();
+        archived.setCustomerId(CUSTOMER_ID);
+        archived.setCreatedAt(START.plusHours(1));
+        OrderRepository loadingRepository = mock(OrderRepository.class);
+        OrderReadModel loadingReadModel = new OrderReadModel(loadingRepository, transactionManager, true, 2, new SimpleMeterRegistry());
+        doAnswer(invocation -> {
+            loadingReadModel.remove(CUSTOMER_ID, archived.getId());
+            invocation.getArgument(4, Consumer.class).accept(archived);
+            return null;
+        }).when(loadingRepository).forEach(eq(OrderEntity.class), any(Specification.class), any(Sort.class), anyInt(), any());
+
+        loadingReadModel.load();
+
+        assertThat(loadingReadModel.list(searchRequest(CUSTOMER_ID), START, PageRequest.of(0, 10)).orElseThrow()).isEmpty();
+    }
+
+    private static OrderSearchRequest searchRequest(UUID customerId) {
+
+        OrderSearchRequest searchRequest = new OrderSearchRequest();
+        searchRequest.setCustomerId(customerId);
+        searchRequest.setStartDate(START.toLocalDate());
+        searchRequest.setDateRange(1);
+        return searchRequest;
+    }
+
+    private static OrderEvent orderEvent(Long id, UUID customerId, String assetName, OrderStatus orderStatus,
+                                         OffsetDateTime createdAt) {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setCustomerId(customerId);
+        event.setAssetName(assetName);
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(orderStatus);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
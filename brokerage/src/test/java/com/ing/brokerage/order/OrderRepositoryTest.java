@@ -0,0 +1,169 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.base.decimal.FixedPoint;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                          + "com.ing.brokerage.order.OrderRepositoryTest$StatementRecorder")
+class OrderRepositoryTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("019a7318-0928-7ce5-9420-b61f070aad4e");
+
+    private static final OffsetDateTime START_DATE = OffsetDateTime.of(2025, 11, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void shouldUseCustomerCreatedAtIndex_WhenSearchByCustomerAndDateRange() {
+
+        assertThat(explainSearch(searchRequest())).contains("O_CID_CA_IDX");
+    }
+
+    @Test
+    void shouldUseCustomerStatusCreatedAtIndex_WhenSearchByCustomerStatusAndDateRange() {
+
+        OrderSearchRequest searchRequest = searchRequest();
+        searchRequest.setOrderStatus(OrderStatus.PENDING);
+
+        assertThat(explainSearch(searchRequest, OrderStatus.PENDING.getId())).contains("O_CID_OS_CA_IDX");
+    }
+
+    @Test
+    void shouldUseCustomerAssetNameCreatedAtIndex_WhenSearchByCustomerAssetNameAndDateRange() {
+
+        OrderSearchRequest searchRequest = searchRequest();
+        searchRequest.setAssetName("AAPL");
+
+        assertThat(explainSearch(searchRequest, "AAPL")).contains("O_CID_AN_CA_IDX");
+    }
+
+    @Test
+    void shouldVisitMatchingOrdersInSortOrder_WhenForEach() {
+
+        UUID customerId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        orderRepository.insert(orderEvent(3L, customerId, now.minusMinutes(1)));
+        orderRepository.insert(orderEvent(1L, customerId, now));
+        orderRepository.insert(orderEvent(2L, UUID.randomUUID(), now));
+
+        List<Long> ids = new ArrayList<>();
+        orderRepository.forEach(OrderEntity.class, new OrderSpecification<OrderEntity>().customerIdEquals(customerId),
+                                Sort.by("createdAt", "id"), 1, orderEntity -> ids.add(orderEntity.getId()));
+
+        assertThat(ids).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void shouldVisitOrdersOfHistoryView_WhenForEach() {
+
+        UUID customerId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        orderRepository.insert(orderEvent(4L, customerId, now));
+
+        List<Long> ids = new ArrayList<>();
+        orderRepository.forEach(OrderHistoryEntity.class, new OrderSpecification<OrderHistoryEntity>().customerIdEquals(customerId),
+                                Sort.by("createdAt", "id"), 1, order -> ids.add(order.getId()));
+
+        assertThat(ids).containsExactly(4L);
+    }
+
+    @Test
+    void shouldUseStatusExpiresAtIndex_WhenSearchExpiringOrders() {
+
+        assertThat(explain("SELECT id, expires_at FROM stock_order WHERE order_status_id = 1 AND expires_at IS NOT NULL"))
+            .contains("O_OS_EA_IDX");
+    }
+
+    @Test
+    void shouldKeepTimeInForce_WhenInsert() {
+
+        UUID customerId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OrderEvent gtd = orderEvent(1L, customerId, now);
+        gtd.setTimeInForce(TimeInForce.GTD);
+        gtd.setExpiresAt(now.plusDays(1).truncatedTo(ChronoUnit.SECONDS));
+        orderRepository.insert(gtd);
+        orderRepository.insert(orderEvent(2L, UUID.randomUUID(), now));
+
+        assertThat(orderRepository.findById(1L)).get()
+                                                .extracting(OrderEntity::getTimeInForce, OrderEntity::getExpiresAt)
+                                                .containsExactly(TimeInForce.GTD, gtd.getExpiresAt());
+        assertThat(orderRepository.findById(2L)).get().extracting(OrderEntity::getTimeInForce).isEqualTo(TimeInForce.GTC);
+        assertThat(orderRepository.findCustomerIdsByIdInAndOrderStatusIn(List.of(1L, 3L), OrderStatus.OPEN))
+            .containsExactly(customerId);
+    }
+
+    private static OrderEvent orderEvent(Long id, UUID customerId, OffsetDateTime createdAt) {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setCustomerId(customerId);
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(OrderStatus.PENDING);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+    private String explain(String query) {
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+
+    /**
+     * Runs the order search through the specification the order service builds and explains the statement Hibernate generated
+     * for it, with the customer, the date range and then the given filter values as its parameters.
+     */
+    private String explainSearch(OrderSearchRequest searchRequest, Object... filterValues) {
+
+        StatementRecorder.STATEMENTS.clear();
+        orderRepository.findAll(OrderService.generateSearchParametersAsSpecification(new OrderSpecification<>(), searchRequest),
+                                Sort.by("createdAt", "id"));
+        assertThat(StatementRecorder.STATEMENTS).hasSize(1);
+
+        List<Object> parameters = new ArrayList<>(List.of(CUSTOMER_ID, START_DATE, START_DATE.plusDays(searchRequest.getDateRange())));
+        parameters.addAll(List.of(filterValues));
+        return jdbcTemplate.queryForObject("EXPLAIN " + StatementRecorder.STATEMENTS.getFirst(), String.class, parameters.toArray());
+    }
+
+    private static OrderSearchRequest searchRequest() {
+
+        OrderSearchRequest searchRequest = new OrderSearchRequest();
+        searchRequest.setCustomerId(CUSTOMER_ID);
+        searchRequest.setStartDate(START_DATE.toLocalDate());
+        searchRequest.setDateRange(30);
+        return searchRequest;
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+import static com.ing.brokerage.order.OrderData.orderEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.asset.AssetService;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.outbox.Outbox;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.customer.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.RestController;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class OrderServiceReplayTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @MockitoBean
+    private RejectionMetrics rejectionMetrics;
+
+    @MockitoBean
+    private OrderIdempotency orderIdempotency;
+
+    @MockitoBean
+    private OrderReadModel orderReadModel;
+
+    @AfterEach
+    void tearDown() {
+
+        jdbcTemplate.update("delete from outbox_event");
+        jdbcTemplate.update("delete from stock_order");
+        jdbcTemplate.update("delete from asset");
+    }
+
+    @Test
+    void shouldNotRecordOutboxEvents_WhenReplay() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        insertAsset(orderEntity.getCustomerId(), BigDecimal.valueOf(10000));
+
+        orderService.replay(OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.CREATED));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from stock_order", Integer.class)).isOne();
+        assertThat(jdbcTemplate.queryForObject("select usable_size from asset", BigDecimal.class)).isEqualByComparingTo("8500");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event", Integer.class)).isZero();
+
+        assetService.lockAsset(orderEntity.getCustomerId(), TRY_ASSET, FixedPoint.of(100));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event", Integer.class)).isOne();
+    }
+
+    private void insertAsset(UUID customerId, BigDecimal size) {
+
+        jdbcTemplate.update("insert into asset (id, customer_id, asset_name, size, usable_size) values (?, ?, ?, ?, ?)", 1L, customerId,
+                            TRY_ASSET, size, size);
+    }
+
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = AssetService.class, excludeFilters = @ComponentScan.Filter(RestController.class))
+    @Import({OrderService.class, OrderOutboxListener.class, Outbox.class})
+    static class ReplayTestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+
+            return new SimpleMeterRegistry();
+        }
+    }
+}
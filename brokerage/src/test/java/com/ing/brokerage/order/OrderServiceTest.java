@@ -0,0 +1,898 @@
+package com.ing.brokerage.order;
+
+import static com.ing.brokerage.asset.AssetData.assetResponse;
+import static com.ing.brokerage.constant.Constants.TRY_ASSET;
+import static com.ing.brokerage.order.OrderData.orderCreateRequest;
+import static com.ing.brokerage.order.OrderData.orderEntity;
+import static com.ing.brokerage.order.OrderData.orderResponse;
+import static com.ing.brokerage.order.OrderData.orderSearchRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ing.brokerage.asset.AssetService;
+import com.ing.brokerage.asset.AssetTradeRequest;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.outbox.Outbox;
+import com.ing.brokerage.base.pagination.CursorCodec;
+import com.ing.brokerage.base.pagination.CursorPage;
+import com.ing.brokerage.base.pagination.CursorRequest;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.customer.CustomerService;
+import com.ing.brokerage.exception.BusinessException;
+import com.ing.brokerage.exception.ExceptionConstants;
+import com.ing.brokerage.exception.RecordNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderFillRepository orderFillRepository;
+
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RejectionMetrics rejectionMetrics;
+
+    @Mock
+    private OrderIdempotency orderIdempotency;
+
+    @Mock
+    private OrderReadModel orderReadModel;
+
+    @Mock
+    private Outbox outbox;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+
+        ReflectionTestUtils.setField(orderService, "archiveHorizon", Duration.ofDays(90));
+    }
+
+    @Test
+    void shouldCreateBuyOrder() throws Exception {
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(assetService.lockAsset(any(), eq(TRY_ASSET), anyLong()))
+            .thenReturn(assetResponse());
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity());
+
+        OrderResponse response = orderService.createOrder(orderCreateRequest());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(response.getAssetSize()).isEqualTo(BigDecimal.valueOf(100));
+        assertThat(response.getAssetUsableSize()).isEqualTo(BigDecimal.valueOf(80));
+
+        verify(customerService).customerExists(any());
+        verify(assetService).lockAsset(any(), eq(TRY_ASSET), eq(FixedPoint.of(1500)));
+        verify(orderRepository).save(any(OrderEntity.class));
+
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEventType()).isEqualTo(OrderEventType.CREATED);
+        assertThat(eventCaptor.getValue().getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    void shouldCreateSellOrder() throws Exception {
+
+        OrderCreateRequest orderCreateRequest = orderCreateRequest();
+        orderCreateRequest.setOrderSide(OrderSide.SELL);
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(assetService.lockAsset(any(), eq("AAPL"), eq(FixedPoint.of(10))))
+            .thenReturn(assetResponse());
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity());
+
+        OrderResponse response = orderService.createOrder(orderCreateRequest);
+
+        assertThat(response).isNotNull();
+        verify(assetService).lockAsset(any(), eq("AAPL"), eq(FixedPoint.of(10)));
+    }
+
+    @Test
+    void shouldCreateTRYOrder_WhenAssetNameIsTRY() throws Exception {
+
+        OrderCreateRequest orderCreateRequest = orderCreateRequest();
+        orderCreateRequest.setAssetName(TRY_ASSET);
+        orderCreateRequest.setPrice(BigDecimal.ONE);
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity());
+
+        OrderResponse response = orderService.createOrder(orderCreateRequest);
+
+        assertThat(response).isNotNull();
+        verify(assetService, never()).lockAsset(any(), any(), anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOrdersAsCsv_WhenExportOrders() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setCreatedAt(OffsetDateTime.parse("2025-11-09T10:15:30Z"));
+        doAnswer(invocation -> {
+            invocation.getArgument(4, Consumer.class).accept(orderEntity);
+            return null;
+        }).when(orderRepository).forEach(eq(OrderEntity.class), any(Specification.class), any(Sort.class), anyInt(), any());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        orderService.exportOrders(orderSearchRequest(), OrderExportFormat.CSV, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo("id,customerId,assetName,orderSide,size,price,orderStatus,createdAt\n"
+                       + "1," + orderEntity.getCustomerId() + ",AAPL,BUY,10,150,PENDING,2025-11-09T10:15:30Z\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOrdersAsNdjson_WhenExportOrders() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setCreatedAt(OffsetDateTime.parse("2025-11-09T10:15:30Z"));
+        doAnswer(invocation -> {
+            Consumer<OrderEntity> consumer = invocation.getArgument(4, Consumer.class);
+            consumer.accept(orderEntity);
+            consumer.accept(orderEntity);
+            return null;
+        }).when(orderRepository).forEach(eq(OrderEntity.class), any(Specification.class), any(Sort.class), anyInt(), any());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        orderService.exportOrders(orderSearchRequest(), OrderExportFormat.NDJSON, outputStream);
+
+        String line = "{\"id\":1,\"customerId\":\"" + orderEntity.getCustomerId() + "\",\"assetName\":\"AAPL\",\"orderSide\":\"BUY\","
+                      + "\"size\":10,\"price\":150,\"orderStatus\":\"PENDING\",\"createdAt\":\"2025-11-09T10:15:30Z\"}\n";
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(line + line);
+    }
+
+    @Test
+    void shouldExportOrderHistory_IfRangeStartsBeforeArchiveHorizon_WhenExportOrders() throws Exception {
+
+        OrderSearchRequest searchRequest = orderSearchRequest();
+        searchRequest.setStartDate(LocalDate.now().minusDays(120));
+
+        orderService.exportOrders(searchRequest, OrderExportFormat.CSV, new ByteArrayOutputStream());
+
+        verify(orderRepository).forEach(eq(OrderHistoryEntity.class), any(Specification.class), any(Sort.class), anyInt(), any());
+        verify(orderRepository, never()).forEach(eq(OrderEntity.class), any(Specification.class), any(Sort.class), anyInt(), any());
+    }
+
+    @Test
+    void shouldSaveIdempotencyKey_IfKeyIsNew_WhenCreateOrder() throws Exception {
+
+        OrderCreateRequest request = orderCreateRequest();
+        when(orderIdempotency.find(request, "retry-1")).thenReturn(Optional.empty());
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(assetService.lockAsset(any(), eq(TRY_ASSET), anyLong())).thenReturn(assetResponse());
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity());
+
+        OrderResponse response = orderService.createOrder(request, "retry-1");
+
+        verify(orderIdempotency).save("retry-1", response);
+    }
+
+    @Test
+    void shouldReturnCreatedOrder_IfKeyIsUsed_WhenCreateOrder() throws Exception {
+
+        OrderCreateRequest request = orderCreateRequest();
+        OrderResponse created = orderResponse();
+        when(orderIdempotency.find(request, "retry-1")).thenReturn(Optional.of(created));
+
+        OrderResponse response = orderService.createOrder(request, "retry-1");
+
+        assertThat(response).isSameAs(created);
+        verify(assetService, never()).lockAsset(any(), any(), anyLong());
+        verify(orderRepository, never()).save(any());
+        verify(orderIdempotency, never()).save(any(), any());
+    }
+
+    @Test
+    void shouldThrowException_IfTRYPriceNotOne_WhenCreateOrder() {
+
+        OrderCreateRequest orderCreateRequest = orderCreateRequest();
+        orderCreateRequest.setAssetName(TRY_ASSET);
+        orderCreateRequest.setPrice(BigDecimal.valueOf(2));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class, () -> orderService.createOrder(orderCreateRequest));
+        Assertions.assertEquals(ExceptionConstants.TRY_ORDER_PRICE_MUST_BE_ONE, ex.getMessageKey());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowException_IfCustomerNotFound_WhenCreateOrder() throws BusinessException {
+
+        when(customerService.customerExists(any())).thenReturn(false);
+
+        RecordNotFoundException ex = Assertions.assertThrows(RecordNotFoundException.class,
+                                                             () -> orderService.createOrder(orderCreateRequest()));
+        Assertions.assertEquals(ExceptionConstants.CUSTOMER_NOT_FOUND, ex.getMessageKey());
+
+        verify(assetService, never()).lockAsset(any(), any(), anyLong());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreateAcceptedOrdersAndReportRejectedOnes_WhenCreateOrders() throws Exception {
+
+        OrderCreateRequest buyRequest = orderCreateRequest();
+        OrderCreateRequest tryRequest = orderCreateRequest();
+        tryRequest.setAssetName(TRY_ASSET);
+        tryRequest.setPrice(BigDecimal.valueOf(2));
+        OrderCreateRequest sellRequest = orderCreateRequest();
+        sellRequest.setCustomerId(buyRequest.getCustomerId());
+        sellRequest.setOrderSide(OrderSide.SELL);
+        OrderBatchCreateRequest batchRequest = new OrderBatchCreateRequest();
+        batchRequest.setOrders(List.of(buyRequest, tryRequest, sellRequest));
+
+        when(customerService.customerExists(buyRequest.getCustomerId())).thenReturn(true);
+        when(assetService.lockAssets(any(), eq(TRY_ASSET), eq(List.of(FixedPoint.of(1500)))))
+            .thenReturn(List.of(Optional.of(assetResponse())));
+        when(assetService.lockAssets(any(), eq("AAPL"), eq(List.of(FixedPoint.of(10)))))
+            .thenReturn(List.of(Optional.empty()));
+        when(orderRepository.saveAll(anyList())).thenReturn(List.of(orderEntity()));
+
+        List<OrderBatchItemResponse> items = orderService.createOrders(batchRequest);
+
+        assertThat(items).extracting(OrderBatchItemResponse::getIndex).containsExactly(0, 1, 2);
+        assertThat(items.get(0).getOrder().getId()).isEqualTo(1L);
+        assertThat(items.get(0).getOrder().getAssetUsableSize()).isEqualTo(BigDecimal.valueOf(80));
+        assertThat(items.get(0).getError()).isNull();
+        assertThat(items.get(1).getOrder()).isNull();
+        assertThat(items.get(1).getError()).isEqualTo(ExceptionConstants.TRY_ORDER_PRICE_MUST_BE_ONE);
+        assertThat(items.get(2).getOrder()).isNull();
+        assertThat(items.get(2).getError()).isEqualTo(ExceptionConstants.INSUFFICIENT_ASSET);
+
+        verify(customerService).customerExists(buyRequest.getCustomerId());
+        verify(eventPublisher).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    void shouldInsertOrdersWithReservedIds_IfIdsAreGiven_WhenCreateOrders() throws Exception {
+
+        OrderCreateRequest buyRequest = orderCreateRequest();
+        OrderCreateRequest sellRequest = orderCreateRequest();
+        sellRequest.setCustomerId(buyRequest.getCustomerId());
+        sellRequest.setOrderSide(OrderSide.SELL);
+
+        when(customerService.customerExists(buyRequest.getCustomerId())).thenReturn(true);
+        when(assetService.lockAssets(any(), eq(TRY_ASSET), anyList())).thenReturn(List.of(Optional.of(assetResponse())));
+        when(assetService.lockAssets(any(), eq("AAPL"), anyList())).thenReturn(List.of(Optional.of(assetResponse())));
+
+        List<OrderBatchItemResponse> items = orderService.createOrders(List.of(buyRequest, sellRequest), List.of(41L, 42L));
+
+        assertThat(items).extracting(item -> item.getOrder().getId()).containsExactly(41L, 42L);
+        ArgumentCaptor<OrderEvent> inserted = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(orderRepository, times(2)).insert(inserted.capture());
+        assertThat(inserted.getAllValues()).extracting(OrderEvent::getId).containsExactly(41L, 42L);
+        assertThat(inserted.getAllValues()).allMatch(event -> event.getCreatedAt() != null);
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldLockAssetsInCustomerAndAssetNameOrder_WhenCreateOrders() {
+
+        UUID firstCustomerId = new UUID(0, 1);
+        UUID secondCustomerId = new UUID(0, 2);
+        OrderCreateRequest secondSell = orderCreateRequest();
+        secondSell.setCustomerId(secondCustomerId);
+        secondSell.setOrderSide(OrderSide.SELL);
+        OrderCreateRequest secondBuy = orderCreateRequest();
+        secondBuy.setCustomerId(secondCustomerId);
+        OrderCreateRequest firstBuy = orderCreateRequest();
+        firstBuy.setCustomerId(firstCustomerId);
+        OrderBatchCreateRequest batchRequest = new OrderBatchCreateRequest();
+        batchRequest.setOrders(List.of(secondSell, secondBuy, firstBuy));
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(assetService.lockAssets(any(), any(), anyList())).thenReturn(List.of(Optional.empty()));
+        when(orderRepository.saveAll(anyList())).thenReturn(List.of());
+
+        orderService.createOrders(batchRequest);
+
+        InOrder locks = inOrder(assetService);
+        locks.verify(assetService).lockAssets(eq(firstCustomerId), eq(TRY_ASSET), anyList());
+        locks.verify(assetService).lockAssets(eq(secondCustomerId), eq("AAPL"), anyList());
+        locks.verify(assetService).lockAssets(eq(secondCustomerId), eq(TRY_ASSET), anyList());
+    }
+
+    @Test
+    void shouldRejectOrders_IfCustomerNotFound_WhenCreateOrders() {
+
+        OrderBatchCreateRequest batchRequest = new OrderBatchCreateRequest();
+        batchRequest.setOrders(List.of(orderCreateRequest()));
+
+        when(customerService.customerExists(any())).thenReturn(false);
+        when(orderRepository.saveAll(anyList())).thenReturn(List.of());
+
+        List<OrderBatchItemResponse> items = orderService.createOrders(batchRequest);
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getError()).isEqualTo(ExceptionConstants.CUSTOMER_NOT_FOUND);
+        verify(assetService, never()).lockAssets(any(), any(), any());
+    }
+
+    @Test
+    void shouldListOrders() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<OrderEntity> page = new PageImpl<>(List.of(orderEntity()));
+
+        when(orderRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+
+        Page<OrderResponse> result = orderService.listOrders(orderSearchRequest(), pageable);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getId()).isEqualTo(1L);
+
+        verify(orderRepository).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void shouldListOrdersFromReadModel_IfReadModelAnswers_WhenListOrders() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        OrderSearchRequest searchRequest = orderSearchRequest();
+        OrderResponse orderResponse = OrderMapper.INSTANCE.toResponse(orderEntity(), null);
+
+        when(orderReadModel.list(eq(searchRequest), any(OffsetDateTime.class), eq(pageable)))
+            .thenReturn(Optional.of(new PageImpl<>(List.of(orderResponse), pageable, 1)));
+
+        assertThat(orderService.listOrders(searchRequest, pageable).getContent()).containsExactly(orderResponse);
+
+        verify(orderRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void shouldListOrderHistory_IfRangeStartsBeforeArchiveHorizon_WhenListOrders() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        OrderSearchRequest searchRequest = orderSearchRequest();
+        searchRequest.setStartDate(LocalDate.now().minusDays(120));
+
+        when(orderHistoryRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+        assertThat(orderService.listOrders(searchRequest, pageable)).isEmpty();
+
+        verify(orderRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoInteractions(orderReadModel);
+    }
+
+    @Test
+    void shouldReturnEmptyPage_IfNoOrdersFound_WhenListOrders() {
+
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<OrderEntity> emptyPage = new PageImpl<>(List.of());
+
+        when(orderRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+
+        Page<OrderResponse> result = orderService.listOrders(orderSearchRequest(), pageable);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNextCursor_IfMoreOrdersExist_WhenScrollOrders() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setCreatedAt(OffsetDateTime.parse("2025-11-09T10:15:30Z"));
+        when(orderRepository.findBy(any(Specification.class), any()))
+            .thenReturn(Window.from(List.of(orderEntity), ScrollPosition::offset, true));
+
+        CursorPage<OrderResponse> result = orderService.scrollOrders(orderSearchRequest(), new CursorRequest());
+
+        assertThat(result.getContent()).extracting(OrderResponse::getId).containsExactly(1L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(CursorCodec.decode(result.getNextCursor()))
+            .containsEntry("createdAt", "2025-11-09T10:15:30Z")
+            .containsEntry("id", "1");
+    }
+
+    @Test
+    void shouldNotReturnCursor_IfLastSlice_WhenScrollOrders() throws Exception {
+
+        CursorRequest cursorRequest = new CursorRequest();
+        cursorRequest.setCursor(CursorCodec.encode(Map.of("createdAt", OffsetDateTime.now(), "id", 1L)));
+        when(orderRepository.findBy(any(Specification.class), any()))
+            .thenReturn(Window.from(List.of(orderEntity()), ScrollPosition::offset, false));
+
+        CursorPage<OrderResponse> result = orderService.scrollOrders(orderSearchRequest(), cursorRequest);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    void shouldScrollOrderHistory_IfRangeStartsBeforeArchiveHorizon_WhenScrollOrders() throws Exception {
+
+        OrderSearchRequest searchRequest = orderSearchRequest();
+        searchRequest.setStartDate(LocalDate.now().minusDays(120));
+        when(orderHistoryRepository.findBy(any(Specification.class), any()))
+            .thenReturn(Window.from(List.of(), ScrollPosition::offset, false));
+
+        CursorPage<OrderResponse> result = orderService.scrollOrders(searchRequest, new CursorRequest());
+
+        assertThat(result.getContent()).isEmpty();
+        verify(orderRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void shouldListFills_IfOrderIsArchived_WhenListFills() throws Exception {
+
+        OrderFillEntity fill = new OrderFillEntity();
+        fill.setOrderId(1L);
+        fill.setSize(FixedPoint.of(10));
+        fill.setPrice(FixedPoint.of(150));
+        when(orderRepository.existsById(1L)).thenReturn(false);
+        when(orderHistoryRepository.existsById(1L)).thenReturn(true);
+        when(orderFillRepository.findAllByOrderIdOrderById(1L)).thenReturn(List.of(fill));
+
+        assertThat(orderService.listFills(1L)).extracting(OrderFillResponse::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    void shouldThrowException_IfCursorIsInvalid_WhenScrollOrders() {
+
+        CursorRequest cursorRequest = new CursorRequest();
+        cursorRequest.setCursor(CursorCodec.encode(Map.of("id", "abc")));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> orderService.scrollOrders(orderSearchRequest(), cursorRequest));
+        Assertions.assertEquals(ExceptionConstants.INVALID_CURSOR, ex.getMessageKey());
+    }
+
+    @Test
+    void shouldRestoreOrdersAndAssets_WhenReplay() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        OrderEvent created = OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.CREATED);
+        OrderEvent matched = OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.MATCHED);
+        matched.setFilledSize(orderEntity.getSize());
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse()));
+
+        orderService.replay(created);
+        orderService.replay(matched);
+
+        verify(assetService).lockAsset(orderEntity.getCustomerId(), TRY_ASSET, FixedPoint.of(1500));
+        verify(orderRepository).insert(created);
+        verify(assetService).matchTradingAssets(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(outbox, times(2)).suppress();
+        assertThat(orderEntity.getOrderStatus()).isEqualTo(OrderStatus.MATCHED);
+    }
+
+    @Test
+    void shouldSettleAtJournaledExecutionPrice_WhenReplay() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        OrderEvent matched = OrderMapper.INSTANCE.toEvent(orderEntity, OrderEventType.MATCHED);
+        matched.setFilledSize(orderEntity.getSize());
+        matched.setFillPrice(FixedPoint.of(140));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse()));
+
+        orderService.replay(matched);
+
+        ArgumentCaptor<List<AssetTradeRequest>> tradeCaptor = ArgumentCaptor.forClass(List.class);
+        verify(assetService).matchTradingAssets(tradeCaptor.capture());
+        assertThat(tradeCaptor.getValue()).extracting(AssetTradeRequest::getPrice, AssetTradeRequest::getAmount)
+                                          .containsExactly(tuple(FixedPoint.of(150),
+                                                                 FixedPoint.multiply(FixedPoint.of(140), FixedPoint.of(10))));
+    }
+
+    @Test
+    void shouldMatchOrder() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setOrderStatus(OrderStatus.PENDING);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse()));
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity);
+
+        OrderResponse response = orderService.matchOrder(1L);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getId()).isEqualTo(1L);
+
+        ArgumentCaptor<OrderEntity> captor = ArgumentCaptor.forClass(OrderEntity.class);
+        verify(orderRepository).save(captor.capture());
+        assertThat(captor.getValue().getOrderStatus()).isEqualTo(OrderStatus.MATCHED);
+        verify(eventPublisher).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    void shouldMatchBothOrders_WhenMatchOrders() throws Exception {
+
+        OrderEntity buyOrder = orderEntity();
+        OrderEntity sellOrder = orderEntity();
+        sellOrder.setId(2L);
+        sellOrder.setOrderSide(OrderSide.SELL);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(buyOrder));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(sellOrder));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse(), assetResponse()));
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderResponse> responses = orderService.matchOrders(1L, 2L);
+
+        assertThat(responses).extracting(OrderResponse::getId).containsExactly(1L, 2L);
+        assertThat(responses).extracting(OrderResponse::getOrderStatus).containsOnly(OrderStatus.MATCHED);
+
+        ArgumentCaptor<List<AssetTradeRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(assetService).matchTradingAssets(captor.capture());
+        assertThat(captor.getValue()).extracting(AssetTradeRequest::getOrderSide).containsExactly(OrderSide.BUY, OrderSide.SELL);
+    }
+
+    @Test
+    void shouldExecuteAtRestingOrderPrice_WhenMatchOrders() throws Exception {
+
+        OrderEntity sellOrder = orderEntity();
+        sellOrder.setId(2L);
+        sellOrder.setOrderSide(OrderSide.SELL);
+        sellOrder.setPrice(FixedPoint.of(140));
+        sellOrder.setCreatedAt(OffsetDateTime.now().minusMinutes(1));
+        OrderEntity buyOrder = orderEntity();
+        buyOrder.setCreatedAt(OffsetDateTime.now());
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(buyOrder));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(sellOrder));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse(), assetResponse()));
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderService.matchOrders(1L, 2L);
+
+        long amount = FixedPoint.multiply(FixedPoint.of(140), FixedPoint.of(10));
+        ArgumentCaptor<List<AssetTradeRequest>> tradeCaptor = ArgumentCaptor.forClass(List.class);
+        verify(assetService).matchTradingAssets(tradeCaptor.capture());
+        assertThat(tradeCaptor.getValue()).extracting(AssetTradeRequest::getPrice, AssetTradeRequest::getAmount)
+                                          .containsExactly(tuple(FixedPoint.of(150), amount), tuple(FixedPoint.of(140), amount));
+
+        ArgumentCaptor<List<OrderFillEntity>> fillCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderFillRepository).saveAll(fillCaptor.capture());
+        assertThat(fillCaptor.getValue()).extracting(OrderFillEntity::getPrice).containsOnly(FixedPoint.of(140));
+
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).extracting(OrderEvent::getFillPrice).containsOnly(FixedPoint.of(140));
+    }
+
+    @Test
+    void shouldThrowException_IfOrdersDoNotCross_WhenMatchOrders() throws BusinessException {
+
+        OrderEntity buyOrder = orderEntity();
+        OrderEntity sellOrder = orderEntity();
+        sellOrder.setId(2L);
+        sellOrder.setOrderSide(OrderSide.SELL);
+        sellOrder.setPrice(FixedPoint.of(160));
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(buyOrder));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(sellOrder));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class, () -> orderService.matchOrders(1L, 2L));
+        Assertions.assertEquals(ExceptionConstants.ORDERS_NOT_CROSSED, ex.getMessageKey());
+        verify(assetService, never()).matchTradingAssets(anyList());
+    }
+
+    @Test
+    void shouldFillSmallerSizeAndKeepLargerOrderOpen_WhenMatchOrders() throws Exception {
+
+        OrderEntity buyOrder = orderEntity();
+        buyOrder.setSize(FixedPoint.of(25));
+        OrderEntity sellOrder = orderEntity();
+        sellOrder.setId(2L);
+        sellOrder.setOrderSide(OrderSide.SELL);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(buyOrder));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(sellOrder));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse(), assetResponse()));
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderResponse> responses = orderService.matchOrders(1L, 2L);
+
+        assertThat(responses).extracting(OrderResponse::getOrderStatus)
+                             .containsExactly(OrderStatus.PARTIALLY_FILLED, OrderStatus.MATCHED);
+        assertThat(responses).extracting(OrderResponse::getFilledSize)
+                             .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                             .containsExactly(BigDecimal.TEN, BigDecimal.TEN);
+
+        ArgumentCaptor<List<AssetTradeRequest>> tradeCaptor = ArgumentCaptor.forClass(List.class);
+        verify(assetService).matchTradingAssets(tradeCaptor.capture());
+        assertThat(tradeCaptor.getValue()).extracting(AssetTradeRequest::getSize).containsOnly(FixedPoint.of(10));
+
+        ArgumentCaptor<List<OrderFillEntity>> fillCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderFillRepository).saveAll(fillCaptor.capture());
+        assertThat(fillCaptor.getValue()).extracting(OrderFillEntity::getOrderId, OrderFillEntity::getCounterOrderId)
+                                         .containsExactly(tuple(1L, 2L), tuple(2L, 1L));
+
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).extracting(OrderEvent::getEventType)
+                                              .containsExactly(OrderEventType.PARTIALLY_FILLED, OrderEventType.MATCHED);
+    }
+
+    @Test
+    void shouldSettleFromFilledSize_IfOrderIsPartiallyFilled_WhenMatchOrder() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setFilledSize(FixedPoint.of(4));
+        orderEntity.setOrderStatus(OrderStatus.PARTIALLY_FILLED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(assetService.matchTradingAssets(anyList())).thenReturn(List.of(assetResponse()));
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrderResponse response = orderService.matchOrder(1L, BigDecimal.valueOf(6));
+
+        assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.MATCHED);
+        ArgumentCaptor<List<AssetTradeRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(assetService).matchTradingAssets(captor.capture());
+        assertThat(captor.getValue()).extracting(AssetTradeRequest::getFilledSize, AssetTradeRequest::getSize)
+                                     .containsExactly(tuple(FixedPoint.of(4), FixedPoint.of(6)));
+    }
+
+    @Test
+    void shouldThrowException_IfSizeExceedsUnfilledSize_WhenMatchOrder() throws BusinessException {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setFilledSize(FixedPoint.of(4));
+        orderEntity.setOrderStatus(OrderStatus.PARTIALLY_FILLED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> orderService.matchOrder(1L, BigDecimal.valueOf(7)));
+        Assertions.assertEquals(ExceptionConstants.INVALID_FILL_SIZE, ex.getMessageKey());
+        verify(assetService, never()).matchTradingAssets(anyList());
+    }
+
+    @Test
+    void shouldNotMatchAnyOrder_IfCounterOrderNotPending_WhenMatchOrders() throws BusinessException {
+
+        OrderEntity sellOrder = orderEntity();
+        sellOrder.setId(2L);
+        sellOrder.setOrderStatus(OrderStatus.CANCELLED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity()));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(sellOrder));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class, () -> orderService.matchOrders(1L, 2L));
+        Assertions.assertEquals(ExceptionConstants.ORDER_STATUS_NOT_PENDING, ex.getMessageKey());
+
+        verify(assetService, never()).matchTradingAssets(anyList());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowException_IfOrderNotFound_WhenMatchOrder() throws BusinessException {
+
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        RecordNotFoundException ex = Assertions.assertThrows(RecordNotFoundException.class,
+                                                             () -> orderService.matchOrder(999L));
+        Assertions.assertEquals(ExceptionConstants.ORDER_NOT_FOUND, ex.getMessageKey());
+
+        verify(assetService, never()).matchTradingAssets(anyList());
+    }
+
+    @Test
+    void shouldThrowException_IfOrderNotPending_WhenMatchOrder() throws BusinessException {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setOrderStatus(OrderStatus.MATCHED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> orderService.matchOrder(1L));
+        Assertions.assertEquals(ExceptionConstants.ORDER_STATUS_NOT_PENDING, ex.getMessageKey());
+
+        verify(assetService, never()).matchTradingAssets(anyList());
+    }
+
+    @Test
+    void shouldExpireOnlyDuePendingOrders_WhenExpireOrders() throws Exception {
+
+        OrderEntity dueOrder = orderEntity();
+        dueOrder.setExpiresAt(OffsetDateTime.now().minusMinutes(1));
+        OrderEntity restingOrder = orderEntity();
+        restingOrder.setId(2L);
+        restingOrder.setExpiresAt(OffsetDateTime.now().plusHours(1));
+        OrderEntity cancelledOrder = orderEntity();
+        cancelledOrder.setId(3L);
+        cancelledOrder.setOrderStatus(OrderStatus.CANCELLED);
+        cancelledOrder.setExpiresAt(OffsetDateTime.now().minusMinutes(1));
+
+        when(orderRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(dueOrder, restingOrder, cancelledOrder));
+        when(orderRepository.saveAll(List.of(dueOrder))).thenReturn(List.of(dueOrder));
+
+        assertThat(orderService.expireOrders(List.of(1L, 2L, 3L))).isEqualTo(1);
+
+        assertThat(dueOrder.getOrderStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(restingOrder.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(assetService).unlockAsset(dueOrder.getCustomerId(), TRY_ASSET, FixedPoint.of(1500));
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEventType()).isEqualTo(OrderEventType.EXPIRED);
+    }
+
+    @Test
+    void shouldExpireAtStartOfNextMarketDay_IfTimeInForceIsDay_WhenCreateOrder() throws Exception {
+
+        ZoneId marketZone = ZoneId.of("Europe/Istanbul");
+        ReflectionTestUtils.setField(orderService, "marketZone", marketZone);
+        OrderCreateRequest request = orderCreateRequest();
+        request.setTimeInForce(TimeInForce.DAY);
+
+        when(customerService.customerExists(any())).thenReturn(true);
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrderResponse response = orderService.createOrder(request);
+
+        assertThat(response.getTimeInForce()).isEqualTo(TimeInForce.DAY);
+        assertThat(response.getExpiresAt()).isEqualTo(LocalDate.now(marketZone).plusDays(1).atStartOfDay(marketZone)
+                                                               .toOffsetDateTime());
+    }
+
+    @Test
+    void shouldThrowException_IfExpiryIsPast_WhenCreateOrder() {
+
+        OrderCreateRequest request = orderCreateRequest();
+        request.setTimeInForce(TimeInForce.GTD);
+        request.setExpiresAt(OffsetDateTime.now().minusSeconds(1));
+
+        BusinessException exception = Assertions.assertThrows(BusinessException.class, () -> orderService.createOrder(request));
+
+        assertThat(exception.getMessageKey()).isEqualTo(ExceptionConstants.INVALID_EXPIRY);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCancelBuyOrder() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setOrderStatus(OrderStatus.PENDING);
+        orderEntity.setOrderSide(OrderSide.BUY);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(assetService.unlockAsset(any(), eq(TRY_ASSET), anyLong()))
+            .thenReturn(assetResponse());
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity);
+
+        OrderResponse response = orderService.cancelOrder(1L);
+
+        assertThat(response).isNotNull();
+
+        ArgumentCaptor<OrderEntity> captor = ArgumentCaptor.forClass(OrderEntity.class);
+        verify(orderRepository).save(captor.capture());
+        assertThat(captor.getValue().getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(assetService).unlockAsset(any(), eq(TRY_ASSET), eq(FixedPoint.of(1500)));
+    }
+
+    @Test
+    void shouldCancelSellOrder() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setOrderStatus(OrderStatus.PENDING);
+        orderEntity.setOrderSide(OrderSide.SELL);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(assetService.unlockAsset(any(), eq("AAPL"), eq(FixedPoint.of(10))))
+            .thenReturn(assetResponse());
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity);
+
+        OrderResponse response = orderService.cancelOrder(1L);
+
+        assertThat(response).isNotNull();
+        verify(assetService).unlockAsset(any(), eq("AAPL"), eq(FixedPoint.of(10)));
+    }
+
+    @Test
+    void shouldReleaseUnfilledSize_IfOrderIsPartiallyFilled_WhenCancelOrder() throws Exception {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setFilledSize(FixedPoint.of(4));
+        orderEntity.setOrderStatus(OrderStatus.PARTIALLY_FILLED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(orderEntity);
+
+        orderService.cancelOrder(1L);
+
+        assertThat(orderEntity.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(assetService).unlockAsset(orderEntity.getCustomerId(), TRY_ASSET, FixedPoint.of(900));
+    }
+
+    @Test
+    void shouldThrowException_IfOrderNotFound_WhenCancelOrder() throws BusinessException {
+
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        RecordNotFoundException ex = Assertions.assertThrows(RecordNotFoundException.class,
+                                                             () -> orderService.cancelOrder(999L));
+        Assertions.assertEquals(ExceptionConstants.ORDER_NOT_FOUND, ex.getMessageKey());
+
+        verify(assetService, never()).unlockAsset(any(), any(), anyLong());
+    }
+
+    @Test
+    void shouldThrowException_IfOrderNotPending_WhenCancelOrder() throws BusinessException {
+
+        OrderEntity orderEntity = orderEntity();
+        orderEntity.setOrderStatus(OrderStatus.CANCELLED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(orderEntity));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class,
+                                                       () -> orderService.cancelOrder(1L));
+        Assertions.assertEquals(ExceptionConstants.ORDER_STATUS_NOT_PENDING, ex.getMessageKey());
+
+        verify(assetService, never()).unlockAsset(any(), any(), anyLong());
+    }
+}
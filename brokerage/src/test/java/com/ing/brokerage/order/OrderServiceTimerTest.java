@@ -0,0 +1,86 @@
+package com.ing.brokerage.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ing.brokerage.asset.AssetService;
+import com.ing.brokerage.base.decimal.FixedPoint;
+import com.ing.brokerage.base.outbox.Outbox;
+import com.ing.brokerage.config.RejectionMetrics;
+import com.ing.brokerage.customer.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAspectsAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@ImportAutoConfiguration({AopAutoConfiguration.class, MetricsAspectsAutoConfiguration.class})
+class OrderServiceTimerTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @MockitoBean
+    private AssetService assetService;
+
+    @MockitoBean
+    private RejectionMetrics rejectionMetrics;
+
+    @MockitoBean
+    private OrderIdempotency orderIdempotency;
+
+    @MockitoBean
+    private OrderReadModel orderReadModel;
+
+    @MockitoBean
+    private Outbox outbox;
+
+    @Test
+    void shouldRecordServiceTimer_WhenListFills() throws Exception {
+
+        OrderEvent event = new OrderEvent();
+        event.setId(1L);
+        event.setCustomerId(UUID.randomUUID());
+        event.setAssetName("AAPL");
+        event.setOrderSide(OrderSide.BUY);
+        event.setSize(FixedPoint.of(10));
+        event.setPrice(FixedPoint.of(150));
+        event.setOrderStatus(OrderStatus.PENDING);
+        event.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        orderRepository.insert(event);
+
+        assertThat(orderService.listFills(1L)).isEmpty();
+
+        assertThat(meterRegistry.get("brokerage.order.service").tag("method", "listFills").timer().count()).isOne();
+    }
+
+    @TestConfiguration
+    @Import(OrderService.class)
+    static class TimerTestConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+
+            return new SimpleMeterRegistry();
+        }
+    }
+}